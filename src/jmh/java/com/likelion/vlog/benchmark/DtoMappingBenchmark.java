@@ -0,0 +1,58 @@
+package com.likelion.vlog.benchmark;
+
+import com.likelion.vlog.dto.comments.CommentWithRepliesGetResponse;
+import com.likelion.vlog.dto.posts.PageResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.Comment;
+import com.likelion.vlog.entity.Post;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용
+ * - 목록: PostListGetResponse.of + PageResponse.of (PostService.searchPosts와 동일한 흐름)
+ * - 댓글: CommentWithRepliesGetResponse.from 트리 변환
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private static final List<String> TAGS = List.of("spring", "java", "jpa");
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private Page<Post> postPage;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        List<Post> posts = Fixtures.posts(pageSize, 20);
+        postPage = new PageImpl<>(posts, PageRequest.of(0, pageSize), 10_000);
+        comments = Fixtures.commentTree(pageSize, 3);
+    }
+
+    @Benchmark
+    public PageResponse<PostListGetResponse> postPage() {
+        List<PostListGetResponse> content = postPage.getContent().stream()
+                .map(post -> PostListGetResponse.of(post, TAGS))
+                .toList();
+        return PageResponse.of(postPage, content);
+    }
+
+    @Benchmark
+    public List<CommentWithRepliesGetResponse> commentTree() {
+        return comments.stream()
+                .map(CommentWithRepliesGetResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.likelion.vlog.benchmark;
+
+import com.likelion.vlog.dto.auth.SignupRequest;
+import com.likelion.vlog.entity.*;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티 생성
+ * - DB 없이 만들기 때문에 id/createdAt/updatedAt은 리플렉션으로 채움
+ */
+public final class Fixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private Fixtures() {
+    }
+
+    @SuppressWarnings("deprecation") // 비밀번호 인코딩 비용은 측정 대상이 아님
+    public static User user(long id) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail("user" + id + "@test.com");
+        request.setPassword("test1234");
+        request.setNickname("사용자" + id);
+        User user = User.of(request, NoOpPasswordEncoder.getInstance());
+        return withBase(user, "id", id);
+    }
+
+    /**
+     * 게시글 목록 (작성자는 authors명이 순환, 본문은 목록 화면의 실제 크기와 비슷하게 약 1KB)
+     */
+    public static List<Post> posts(int count, int authors) {
+        List<Blog> blogs = new ArrayList<>();
+        for (int i = 1; i <= authors; i++) {
+            User user = user(i);
+            blogs.add(withBase(Blog.create(user), "id", (long) i));
+        }
+
+        String content = "스프링 부트와 JPA로 블로그 만들기. ".repeat(40);
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Post post = Post.of("게시글 제목 " + i, content, blogs.get(i % authors));
+            posts.add(withBase(post, "id", (long) i));
+        }
+        return posts;
+    }
+
+    /**
+     * 루트 댓글 roots개, 각각 답글 repliesPerRoot개
+     */
+    public static List<Comment> commentTree(int roots, int repliesPerRoot) {
+        Post post = posts(1, 1).get(0);
+        List<Comment> comments = new ArrayList<>(roots);
+        long id = 1;
+        for (int i = 0; i < roots; i++) {
+            Comment root = withBase(Comment.of(user(i % 20 + 1), post, "댓글 내용 " + i), "id", id++);
+            for (int j = 0; j < repliesPerRoot; j++) {
+                Comment reply = Comment.ofReply(user(j % 20 + 1), post, root, "답글 내용 " + j);
+                root.getChildren().add(withBase(reply, "id", id++));
+            }
+            comments.add(root);
+        }
+        return comments;
+    }
+
+    private static <T extends BaseEntity> T withBase(T entity, String idField, Long id) {
+        set(entity, idField, id);
+        set(entity, "createdAt", NOW);
+        set(entity, "updatedAt", NOW);
+        return entity;
+    }
+
+    private static void set(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
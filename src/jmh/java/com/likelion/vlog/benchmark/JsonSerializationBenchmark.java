@@ -0,0 +1,46 @@
+package com.likelion.vlog.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.dto.posts.PageResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.Post;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 50건 페이지의 JSON 직렬화 비용
+ * - ObjectMapper는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder로 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private static final List<String> TAGS = List.of("spring", "java", "jpa");
+
+    private ObjectMapper objectMapper;
+    private PageResponse<PostListGetResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Post> posts = Fixtures.posts(50, 20);
+        List<PostListGetResponse> content = posts.stream()
+                .map(post -> PostListGetResponse.of(post, TAGS))
+                .toList();
+        page = PageResponse.of(new PageImpl<>(posts, PageRequest.of(0, 50), 10_000), content);
+    }
+
+    @Benchmark
+    public byte[] postPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
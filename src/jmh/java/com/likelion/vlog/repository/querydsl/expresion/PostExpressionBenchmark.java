@@ -0,0 +1,87 @@
+package com.likelion.vlog.repository.querydsl.expresion;
+
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.enums.SortField;
+import com.likelion.vlog.enums.TagMode;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 검색 조건 생성 비용 (DB 호출 없이 QueryDSL 표현식만)
+ * - normalizeKeyword는 package-private이라 같은 패키지에 둠
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostExpressionBenchmark {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final List<Long> TAG_IDS = List.of(1L, 2L, 3L, 4L);
+
+    private final QPost post = QPost.post;
+
+    private PostGetRequest fullRequest;
+    private PostGetRequest plainRequest;
+    private List<String> rawTags;
+    private String keyword;
+
+    @Setup
+    public void setUp() {
+        rawTags = Arrays.asList(" java", "spring ", null, "", "jpa", "java", "querydsl");
+        keyword = "  스프링   부트 JPA  게시판 ";
+
+        fullRequest = new PostGetRequest();
+        fullRequest.setBlogId(3L);
+        fullRequest.setKeyword(keyword);
+        fullRequest.setSearch(SearchFiled.NICKNAME);
+        fullRequest.setTag(rawTags);
+        fullRequest.setTagMode(TagMode.AND);
+        fullRequest.setSort(SortField.LIKE);
+
+        plainRequest = new PostGetRequest();
+        plainRequest.normalize();
+    }
+
+    // 태그 id는 PostRepositoryImpl에서 미리 조회하므로 고정값 사용
+    @Benchmark
+    public Predicate searchFull() {
+        return post.search(fullRequest, post.keyword(fullRequest), post.tagIdsIn(TagMode.AND, TAG_IDS));
+    }
+
+    @Benchmark
+    public Predicate searchPlain() {
+        return post.search(plainRequest, post.keyword(plainRequest), null);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?> sort() {
+        return post.sort(fullRequest);
+    }
+
+    @Benchmark
+    public List<String> sanitizeTags() {
+        return PostExpression.sanitizeTags(rawTags);
+    }
+
+    @Benchmark
+    public String normalizeKeyword() {
+        return PostExpression.normalizeKeyword(keyword);
+    }
+
+    // 비교 기준: 정규식을 미리 컴파일한 경우
+    @Benchmark
+    public String normalizeKeywordPrecompiled() {
+        return WHITESPACE.matcher(keyword.trim()).replaceAll("");
+    }
+}
@@ -0,0 +1,60 @@
+package com.likelion.vlog.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기준선(JSON) 읽기/쓰기와 회귀 판정
+ * - p50/p99가 (1 + threshold)배를 넘거나 처리량이 (1 - threshold)배 아래로 떨어지면 회귀
+ */
+class Baseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static Map<String, ScenarioStats.Result> read(Path path) throws IOException {
+        if (!Files.exists(path)) return Map.of();
+        return MAPPER.readValue(path.toFile(), new TypeReference<>() {
+        });
+    }
+
+    static void write(Path path, Map<String, ScenarioStats.Result> results) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        MAPPER.writeValue(path.toFile(), results);
+    }
+
+    static List<String> regressions(Map<String, ScenarioStats.Result> baseline,
+                                    Map<String, ScenarioStats.Result> current,
+                                    LoadTestOptions options) {
+        List<String> failures = new ArrayList<>();
+        baseline.forEach((name, before) -> {
+            ScenarioStats.Result after = current.get(name);
+            if (after == null || after.count() == 0) return;
+
+            if (regressed(before.p50Ms(), after.p50Ms(), options)) {
+                failures.add("%s p50 %.2fms -> %.2fms".formatted(name, before.p50Ms(), after.p50Ms()));
+            }
+            // 표본이 적으면 p99는 사실상 최댓값이라 비교하지 않음
+            if (Math.min(before.count(), after.count()) >= options.minSamples()
+                    && regressed(before.p99Ms(), after.p99Ms(), options)) {
+                failures.add("%s p99 %.2fms -> %.2fms".formatted(name, before.p99Ms(), after.p99Ms()));
+            }
+            if (after.throughput() < before.throughput() * (1 - options.threshold())) {
+                failures.add("%s 처리량 %.1f/s -> %.1f/s".formatted(name, before.throughput(), after.throughput()));
+            }
+        });
+        return failures;
+    }
+
+    // 비율(threshold)과 절대 여유(slackMs)를 모두 넘어야 회귀 (수 ms 단위 지연의 흔들림 무시)
+    private static boolean regressed(double before, double after, LoadTestOptions options) {
+        return after > before * (1 + options.threshold()) && after - before > options.slackMs();
+    }
+}
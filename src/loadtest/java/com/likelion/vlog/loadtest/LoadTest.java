@@ -0,0 +1,154 @@
+package com.likelion.vlog.loadtest;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 테스트 드라이버 (open model)
+ * - 응답을 기다리지 않고 포아송 도착(평균 rate/s)으로 요청을 시작: 서버가 느려져도 부하가 줄지 않음
+ * - 시나리오는 mix 가중치로 선택, 요청마다 가상 스레드 1개
+ * - 워밍업 이후 구간만 기록, 결과를 기준선과 비교해서 회귀 시 종료 코드 1
+ * - p50/처리량은 threshold 비율 + slack-ms 를 넘으면 회귀, p99는 표본이 min-samples 이상일 때만 비교
+ *
+ * 예) gradle loadTest -PloadTest.args="--rate=50 --duration=2m"
+ *     gradle loadTest -PloadTest.args="--base-url=http://localhost:8080 --baseline=src/loadtest/baseline-mysql.json"
+ *     gradle loadTest -PloadTest.args="--update-baseline"   (현재 결과를 기준선으로 저장)
+ */
+public class LoadTest {
+
+    private static final Path RESULT = Path.of("build/reports/loadtest/result.json");
+    private static final String TOTAL = "total";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        LocalApp app = options.baseUrl() == null ? LocalApp.start(options.seed()) : null;
+        int exitCode;
+        try {
+            String baseUrl = app != null ? app.baseUrl() : options.baseUrl();
+            Workload workload = new Workload(baseUrl);
+            workload.prepare(options.users(), options.seed());
+
+            System.out.printf("부하 테스트: %s, %.0f req/s, 워밍업 %ds, 측정 %ds, mix %s%n", baseUrl, options.rate(),
+                    options.warmup().toSeconds(), options.duration().toSeconds(), options.mix());
+            run(workload, options, null, options.warmup().toNanos());
+
+            Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+            options.mix().keySet().forEach(scenario -> stats.put(scenario, new ScenarioStats()));
+            run(workload, options, stats, options.duration().toNanos());
+
+            Map<String, ScenarioStats.Result> results = results(stats, options.duration().toNanos() / 1e9);
+            print(results);
+            Baseline.write(RESULT, results);
+            exitCode = judge(options, results);
+        } finally {
+            if (app != null) app.close();
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 정해진 시간 동안 포아송 도착으로 요청 시작
+     * - 지연시간은 예정 시각 기준 (coordinated omission 보정)
+     * - 동시 요청이 maxInFlight를 넘으면 보내지 않고 오류로 기록
+     */
+    private static void run(Workload workload, LoadTestOptions options,
+                            Map<Scenario, ScenarioStats> stats, long durationNanos) throws InterruptedException {
+        Random random = new Random(options.seed());
+        List<Scenario> weighted = weighted(options.mix());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicLong dropped = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            long intended = start;
+            while (intended - start < durationNanos) {
+                long now = System.nanoTime();
+                if (intended > now) LockSupport.parkNanos(intended - now);
+
+                Scenario scenario = weighted.get(random.nextInt(weighted.size()));
+                long scheduledAt = intended;
+                if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    dropped.incrementAndGet();
+                    if (stats != null) stats.get(scenario).record(System.nanoTime() - scheduledAt, false);
+                } else {
+                    executor.execute(() -> {
+                        boolean success;
+                        try {
+                            success = workload.execute(scenario);
+                        } catch (Exception e) {
+                            success = false;
+                        }
+                        inFlight.decrementAndGet();
+                        if (stats != null) stats.get(scenario).record(System.nanoTime() - scheduledAt, success);
+                    });
+                }
+
+                // 지수분포 도착 간격
+                intended += (long) (-Math.log(1 - random.nextDouble()) / options.rate() * TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        if (dropped.get() > 0) {
+            System.out.printf("동시 요청 한도(%d) 초과로 보내지 못한 요청: %d%n", options.maxInFlight(), dropped.get());
+        }
+    }
+
+    private static List<Scenario> weighted(Map<Scenario, Integer> mix) {
+        List<Scenario> weighted = new ArrayList<>();
+        mix.forEach((scenario, weight) -> weighted.addAll(Collections.nCopies(weight, scenario)));
+        return weighted;
+    }
+
+    private static Map<String, ScenarioStats.Result> results(Map<Scenario, ScenarioStats> stats, double seconds) {
+        Map<String, ScenarioStats.Result> results = new LinkedHashMap<>();
+        ScenarioStats total = new ScenarioStats();
+        stats.forEach((scenario, scenarioStats) -> {
+            results.put(scenario.key(), scenarioStats.result(seconds));
+            total.add(scenarioStats);
+        });
+        results.put(TOTAL, total.result(seconds));
+        return results;
+    }
+
+    private static void print(Map<String, ScenarioStats.Result> results) {
+        System.out.printf("%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        results.forEach((name, r) -> System.out.printf("%-8s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, r.count(), r.errors(), r.throughput(), r.p50Ms(), r.p90Ms(), r.p99Ms(), r.maxMs()));
+    }
+
+    private static int judge(LoadTestOptions options, Map<String, ScenarioStats.Result> results) throws Exception {
+        if (options.updateBaseline()) {
+            Baseline.write(options.baseline(), results);
+            System.out.println("기준선 갱신: " + options.baseline());
+            return 0;
+        }
+
+        List<String> failures = new ArrayList<>();
+        ScenarioStats.Result total = results.get(TOTAL);
+        if (total.errorRate() > options.maxErrorRate()) {
+            failures.add("오류율 %.2f%% (허용 %.2f%%)".formatted(total.errorRate() * 100, options.maxErrorRate() * 100));
+        }
+
+        Map<String, ScenarioStats.Result> baseline = Baseline.read(options.baseline());
+        if (baseline.isEmpty()) {
+            System.out.println("기준선 없음: " + options.baseline() + " (--update-baseline 으로 생성)");
+        }
+        failures.addAll(Baseline.regressions(baseline, results, options));
+
+        if (failures.isEmpty()) {
+            System.out.printf("통과 (기준선 대비 허용 %.0f%%)%n", options.threshold() * 100);
+            return 0;
+        }
+        System.out.println("회귀 감지:");
+        failures.forEach(failure -> System.out.println("  - " + failure));
+        return 1;
+    }
+}
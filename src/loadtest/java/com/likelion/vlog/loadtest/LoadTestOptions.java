@@ -0,0 +1,74 @@
+package com.likelion.vlog.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value)
+ * - base-url이 없으면 H2 + seed 프로필로 앱을 같은 JVM에 띄워서 테스트
+ */
+record LoadTestOptions(
+        String baseUrl,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        double threshold,
+        double slackMs,
+        int minSamples,
+        double maxErrorRate,
+        Path baseline,
+        boolean updateBaseline,
+        long seed,
+        int users,
+        int maxInFlight,
+        Map<Scenario, Integer> mix) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            String[] pair = arg.substring(2).split("=", 2);
+            values.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+
+        return new LoadTestOptions(
+                values.get("base-url"),
+                Double.parseDouble(values.getOrDefault("rate", "20")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "60s")),
+                Double.parseDouble(values.getOrDefault("threshold", "0.2")),
+                Double.parseDouble(values.getOrDefault("slack-ms", "5")),
+                Integer.parseInt(values.getOrDefault("min-samples", "1000")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                Path.of(values.getOrDefault("baseline", "src/loadtest/baseline.json")),
+                Boolean.parseBoolean(values.getOrDefault("update-baseline", "false")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("users", "20")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "1000")),
+                mix(values.getOrDefault("mix", "list=40,detail=30,like=10,comment=10,follow=10")));
+    }
+
+    // 30s, 2m, 500ms
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("기간 형식 오류: " + value);
+        };
+    }
+
+    // list=40,detail=30,...
+    private static Map<Scenario, Integer> mix(String value) {
+        Map<Scenario, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            mix.put(Scenario.from(pair[0]), Integer.parseInt(pair[1]));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,65 @@
+package com.likelion.vlog.loadtest;
+
+import com.likelion.vlog.VlogApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 같은 JVM에서 앱 기동 (H2 인메모리 + Flyway 스키마 + seed 프로필 데이터)
+ * - 드라이버와 CPU를 나눠 쓰므로 절대값보다 같은 환경에서의 커밋 간 비교용
+ * - 실제 수치는 별도로 띄운 앱(로컬 MySQL)에 --base-url 로 측정
+ */
+class LocalApp implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private LocalApp(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static LocalApp start(long seed) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        // 행 잠금 대기: H2 기본값(1초) 대신 MySQL(innodb_lock_wait_timeout)처럼 길게
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.MySQLDialect");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("logging.level.root", "WARN");
+        properties.put("cors.allowed-origins", "http://localhost:3000");
+        properties.put("cors.allowed-methods", "GET,POST,PUT,DELETE,OPTIONS");
+        properties.put("cors.allowed-headers", "*");
+        properties.put("cors.exposed-headers", "*");
+        properties.put("cors.allow-credentials", true);
+        properties.put("cors.max-age", 3600);
+        properties.put("vlog.seed.seed", seed);
+        properties.put("vlog.seed.users", 2_000);
+        properties.put("vlog.seed.posts", 20_000);
+
+        // application-seed.yml 보다 우선하도록 커맨드라인 인자로 전달
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+
+        SpringApplication application = new SpringApplication(VlogApplication.class);
+        application.setAdditionalProfiles("seed");
+        return new LocalApp(application.run(args));
+    }
+
+    String baseUrl() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,27 @@
+package com.likelion.vlog.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 요청 유형 (실제 API 엔드포인트 조합)
+ */
+enum Scenario {
+
+    LIST,       // GET /posts (정렬/태그/검색어/페이지 조합)
+    DETAIL,     // GET /posts/{id}
+    LIKE,       // POST/DELETE /posts/{id}/like (로그인 사용자별 토글)
+    COMMENT,    // POST /posts/{id}/comments
+    FOLLOW;     // GET /users/{id}/followers, followings
+
+    static Scenario from(String value) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key().equals(value.trim().toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + value));
+    }
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,52 @@
+package com.likelion.vlog.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 지연시간(HdrHistogram, µs)과 오류 수
+ * - 지연시간은 예정된 요청 시각부터 측정 (서버가 밀려 요청이 늦게 나가도 그 대기 시간이 포함됨)
+ */
+class ScenarioStats {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histogram = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+        histogram.recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (!success) errors.increment();
+    }
+
+    void add(ScenarioStats other) {
+        histogram.add(other.histogram);
+        errors.add(other.errors.sum());
+    }
+
+    Result result(double seconds) {
+        long count = histogram.getTotalCount();
+        return new Result(
+                count,
+                errors.sum(),
+                count / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    /**
+     * 측정 결과 (지연시간은 ms)
+     */
+    record Result(long count, long errors, double throughput,
+                  double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.likelion.vlog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시나리오별 실제 HTTP 요청
+ * - 준비 단계에서 게시글/작성자 id를 목록 API로 수집하고, 부하 테스트 전용 사용자를 가입/로그인
+ * - 상세/좋아요/댓글 대상 게시글은 앞쪽(인기) 게시글에 몰리도록 선택
+ */
+class Workload {
+
+    private static final List<String> SORTS = List.of("CREATED_AT", "UPDATED_AT", "VIEW", "LIKE");
+    private static final List<String> TAGS = List.of("java", "spring", "jpa", "mysql", "react");
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient anonymous = client();
+    private final List<HttpClient> sessions = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+    // (세션, 게시글)별 좋아요 상태 - 토글 방향 결정
+    private final Map<String, Boolean> liked = new ConcurrentHashMap<>();
+
+    Workload(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    void prepare(int users, long seed) throws IOException, InterruptedException {
+        Set<Long> posts = new LinkedHashSet<>();
+        Set<Long> authors = new LinkedHashSet<>();
+        for (String sort : List.of("LIKE", "VIEW", "CREATED_AT")) {
+            for (int page = 0; page < 4; page++) {
+                JsonNode body = json(anonymous, get("/api/v1/posts?size=50&sort=" + sort + "&page=" + page));
+                for (JsonNode post : body.path("content")) {
+                    posts.add(post.path("postId").asLong());
+                    authors.add(post.path("author").path("userId").asLong());
+                }
+            }
+        }
+        if (posts.isEmpty()) throw new IllegalStateException("게시글이 없습니다. seed 프로필로 데이터를 먼저 생성하세요.");
+        postIds.addAll(posts);
+        userIds.addAll(authors);
+
+        String run = Long.toString(seed, 36) + Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < users; i++) {
+            String email = "loadtest-" + run + "-" + i + "@test.com";
+            String account = "{\"email\":\"%s\",\"password\":\"test1234\",\"nickname\":\"lt-%s-%d\"}".formatted(email, run, i);
+            HttpClient session = client();
+            expectOk(session, post("/api/v1/auth/signup", account));
+            expectOk(session, post("/api/v1/auth/login", account));
+            sessions.add(session);
+        }
+    }
+
+    /**
+     * 요청 1회 실행, 성공 여부 반환 (좋아요 중복/미존재 409·404는 상태 불일치로 보고 성공 처리)
+     */
+    boolean execute(Scenario scenario) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (scenario) {
+            case LIST -> ok(send(anonymous, get(listQuery(random))));
+            case DETAIL -> ok(send(anonymous, get("/api/v1/posts/" + popularPost(random))));
+            case FOLLOW -> {
+                long userId = userIds.get(random.nextInt(userIds.size()));
+                String type = random.nextBoolean() ? "followers" : "followings";
+                yield ok(send(anonymous, get("/api/v1/users/" + userId + "/" + type)));
+            }
+            case LIKE -> {
+                int index = random.nextInt(sessions.size());
+                long postId = popularPost(random);
+                String key = index + ":" + postId;
+                boolean like = !liked.getOrDefault(key, false);
+                HttpRequest.Builder request = request("/api/v1/posts/" + postId + "/like");
+                int status = send(sessions.get(index),
+                        like ? request.POST(HttpRequest.BodyPublishers.noBody()) : request.DELETE());
+                liked.put(key, like);
+                yield ok(status) || status == 409 || status == 404;
+            }
+            case COMMENT -> ok(send(sessions.get(random.nextInt(sessions.size())),
+                    post("/api/v1/posts/" + popularPost(random) + "/comments", "{\"content\":\"부하 테스트 댓글\"}")));
+        };
+    }
+
+    private String listQuery(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder("/api/v1/posts?page=").append(random.nextInt(5))
+                .append("&sort=").append(SORTS.get(random.nextInt(SORTS.size())));
+        int filter = random.nextInt(10);
+        if (filter < 3) {
+            query.append("&tag=").append(TAGS.get(random.nextInt(TAGS.size())));
+        } else if (filter < 4) {
+            query.append("&tag=java&tag=spring&tagMode=AND");
+        } else if (filter < 5) {
+            query.append("&keyword=%EC%8A%A4%ED%94%84%EB%A7%81"); // 스프링
+        } else if (filter < 6) {
+            query.append("&blogId=").append(userIds.get(random.nextInt(userIds.size())));
+        }
+        return query.toString();
+    }
+
+    // 수집 순서(좋아요/조회수 많은 순)의 앞쪽일수록 자주 선택
+    private long popularPost(ThreadLocalRandom random) {
+        double skew = Math.pow(random.nextDouble(), 3);
+        return postIds.get((int) (skew * postIds.size()));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private int send(HttpClient client, HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private JsonNode json(HttpClient client, HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (!ok(response.statusCode())) throw new IllegalStateException(response.statusCode() + " " + response.body());
+        return objectMapper.readTree(response.body());
+    }
+
+    private void expectOk(HttpClient client, HttpRequest.Builder request) throws IOException, InterruptedException {
+        json(client, request);
+    }
+
+    private static boolean ok(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    // 세션(JSESSIONID)마다 쿠키 저장소가 따로 필요해서 클라이언트도 사용자별로 생성
+    private static HttpClient client() {
+        return HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
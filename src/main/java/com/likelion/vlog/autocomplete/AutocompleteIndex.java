@@ -0,0 +1,137 @@
+package com.likelion.vlog.autocomplete;
+
+import com.likelion.vlog.event.PostChangedEvent;
+import com.likelion.vlog.event.UserChangedEvent;
+import com.likelion.vlog.search.HangulText;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 태그/닉네임 자동완성 인덱스 (인스턴스 메모리, 조회 시 DB 접근 없음)
+ * - 키: 자모 분해 + 소문자 + 공백 제거 (HangulText.jamo, 입력 중인 글자 "철ㅅ"도 "철수"의 접두사)
+ * - 회원가입/닉네임 변경/탈퇴, 새 태그는 커밋 후 이벤트로 바로 반영
+ * - 게시글 수/팔로워 수(순위)와 삭제된 태그는 AutocompleteLoader가 주기적으로 다시 적재
+ */
+@Component
+public class AutocompleteIndex {
+
+    private final Slot tags;
+    private final Slot users;
+
+    public AutocompleteIndex(@Value("${vlog.autocomplete.max-size:10}") int capacity) {
+        this.tags = new Slot(capacity);
+        this.users = new Slot(capacity);
+    }
+
+    public List<Suggestion> tags(String prefix) {
+        return tags.top(normalize(prefix));
+    }
+
+    public List<Suggestion> users(String prefix) {
+        return users.top(normalize(prefix));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        users.apply(trie -> {
+            if (event.getPreviousNickname() != null && !event.getPreviousNickname().equals(event.getNickname())) {
+                Suggestion before = trie.get(event.getPreviousNickname());
+                trie.remove(event.getPreviousNickname());
+                if (event.getNickname() != null) {
+                    put(trie, new Suggestion(event.getUserId(), event.getNickname(), before == null ? 0 : before.score()));
+                }
+            } else if (event.getNickname() != null && trie.get(event.getNickname()) == null) {
+                put(trie, new Suggestion(event.getUserId(), event.getNickname(), 0));
+            }
+        });
+    }
+
+    // 새 태그만 추가 (게시글 수는 주기적 재적재로 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        tags.apply(trie -> event.getCurrentTags().stream()
+                .filter(title -> trie.get(title) == null)
+                .forEach(title -> put(trie, new Suggestion(null, title, 1))));
+    }
+
+    void reloadTags(Supplier<List<Suggestion>> loader) {
+        tags.reload(loader);
+    }
+
+    void reloadUsers(Supplier<List<Suggestion>> loader) {
+        users.reload(loader);
+    }
+
+    static String normalize(String text) {
+        return HangulText.jamo(text);
+    }
+
+    private static void put(PrefixTrie trie, Suggestion suggestion) {
+        String key = normalize(suggestion.text());
+        if (!key.isEmpty()) trie.put(key, suggestion);
+    }
+
+    /**
+     * 트라이 하나와 재적재 중 변경 기록
+     */
+    private static final class Slot {
+
+        private final int capacity;
+        private PrefixTrie trie;
+        private List<Consumer<PrefixTrie>> journal;
+
+        private Slot(int capacity) {
+            this.capacity = capacity;
+            this.trie = new PrefixTrie(capacity);
+        }
+
+        synchronized List<Suggestion> top(String prefix) {
+            if (prefix.isEmpty()) return List.of();
+            return trie.top(prefix);
+        }
+
+        synchronized void apply(Consumer<PrefixTrie> change) {
+            change.accept(trie);
+            if (journal != null) journal.add(change);
+        }
+
+        /**
+         * 새 트라이로 교체
+         * - 조회/구성은 잠금 밖에서 (자동완성 조회를 막지 않도록)
+         * - 조회 시작 이후 들어온 변경은 새 트라이에도 다시 적용한 뒤 교체
+         */
+        void reload(Supplier<List<Suggestion>> loader) {
+            synchronized (this) {
+                journal = new ArrayList<>();
+            }
+            List<Suggestion> suggestions;
+            try {
+                suggestions = loader.get();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    journal = null;
+                }
+                throw e;
+            }
+
+            PrefixTrie fresh = new PrefixTrie(capacity);
+            fresh.putAll(suggestions.stream()
+                    .map(s -> Map.entry(normalize(s.text()), s))
+                    .filter(entry -> !entry.getKey().isEmpty())
+                    .toList());
+            synchronized (this) {
+                if (journal != null) journal.forEach(change -> change.accept(fresh));
+                journal = null;
+                trie = fresh;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.likelion.vlog.autocomplete;
+
+import com.likelion.vlog.entity.QFollow;
+import com.likelion.vlog.entity.QTag;
+import com.likelion.vlog.entity.QTagUsage;
+import com.likelion.vlog.entity.QUser;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 자동완성 인덱스 적재
+ * - 기동 시 전체 적재, 이후 refresh-interval 마다 다시 적재 (게시글 수/팔로워 수 순위, 삭제된 태그 반영)
+ * - 게시글이 없는 태그는 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteLoader {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final AutocompleteIndex autocompleteIndex;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${vlog.autocomplete.refresh-interval:10m}",
+            fixedDelayString = "${vlog.autocomplete.refresh-interval:10m}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("자동완성 인덱스 적재 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private void reload() {
+        long started = System.nanoTime();
+        autocompleteIndex.reloadTags(() -> readOnlyTransactionTemplate.execute(status -> findTags()));
+        autocompleteIndex.reloadUsers(() -> readOnlyTransactionTemplate.execute(status -> findUsers()));
+        log.info("자동완성 인덱스 적재: {}ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<Suggestion> findTags() {
+        QTag tag = QTag.tag;
+        QTagUsage usage = QTagUsage.tagUsage;
+        return jpaQueryFactory
+                .select(tag.id, tag.title, usage.usageCount)
+                .from(usage)
+                .join(usage.tag, tag)
+                .where(usage.usageCount.gt(0))
+                .fetch()
+                .stream()
+                .map(row -> new Suggestion(row.get(tag.id), row.get(tag.title), row.get(usage.usageCount)))
+                .toList();
+    }
+
+    private List<Suggestion> findUsers() {
+        QUser user = QUser.user;
+        QFollow follow = QFollow.follow;
+        return jpaQueryFactory
+                .select(user.id, user.nickname, follow.id.count())
+                .from(user)
+                .leftJoin(follow).on(follow.following.eq(user))
+                .groupBy(user.id, user.nickname)
+                .fetch()
+                .stream()
+                .map(row -> new Suggestion(row.get(user.id), row.get(user.nickname), row.get(follow.id.count())))
+                .toList();
+    }
+}
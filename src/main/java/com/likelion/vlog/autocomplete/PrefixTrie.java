@@ -0,0 +1,196 @@
+package com.likelion.vlog.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 접두사 -> 상위 후보 검색용 압축 트라이 (radix tree)
+ * - 간선마다 문자열 조각을 저장해 노드 수를 후보 수의 2배 이하로 유지
+ * - 노드마다 하위 트리의 상위 capacity개를 미리 계산해 두므로 조회는 접두사 길이만큼만 내려감
+ * - 변경 시 해당 키 경로의 노드만 다시 계산, 일괄 적재(putAll) 시에는 한 번에 계산
+ * - 동기화는 호출 측(AutocompleteIndex)이 담당
+ */
+final class PrefixTrie {
+
+    // 점수 높은 순, 동점이면 짧은(=더 정확한) 문자열, 사전순
+    static final Comparator<Suggestion> ORDER = Comparator
+            .comparingLong(Suggestion::score).reversed()
+            .thenComparingInt((Suggestion s) -> s.text().length())
+            .thenComparing(Suggestion::text);
+
+    private final int capacity;
+    private final Node root = new Node("");
+    private final Map<String, String> keyByText = new HashMap<>();
+
+    PrefixTrie(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 추가 또는 교체 (같은 text의 기존 후보는 제거)
+     */
+    void put(String key, Suggestion suggestion) {
+        remove(suggestion.text());
+        keyByText.put(suggestion.text(), key);
+        recomputeTops(insert(key, suggestion));
+    }
+
+    void remove(String text) {
+        String key = keyByText.remove(text);
+        if (key == null) return;
+        List<Node> path = find(key);
+        Node node = path.get(path.size() - 1);
+        node.terminals.removeIf(s -> s.text().equals(text));
+        prune(path);
+        recomputeTops(path);
+    }
+
+    Suggestion get(String text) {
+        String key = keyByText.get(text);
+        if (key == null) return null;
+        List<Node> path = find(key);
+        return path.get(path.size() - 1).terminals.stream()
+                .filter(s -> s.text().equals(text))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 빈 트라이에 일괄 적재 (상위 후보는 마지막에 한 번만 계산)
+     */
+    void putAll(Collection<Map.Entry<String, Suggestion>> entries) {
+        for (Map.Entry<String, Suggestion> entry : entries) {
+            if (keyByText.putIfAbsent(entry.getValue().text(), entry.getKey()) == null) {
+                insert(entry.getKey(), entry.getValue());
+            }
+        }
+        computeTops(root);
+    }
+
+    /**
+     * 접두사로 시작하는 키의 상위 후보 (최대 capacity개)
+     */
+    List<Suggestion> top(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) return List.of();
+            int common = commonPrefix(child.label, prefix, i);
+            if (common < child.label.length()) {
+                // 접두사가 간선 중간에서 끝나면 그 아래 전체가 후보
+                return i + common == prefix.length() ? child.top : List.of();
+            }
+            i += common;
+            node = child;
+        }
+        return node.top;
+    }
+
+    int size() {
+        return keyByText.size();
+    }
+
+    // 키 경로를 만들며 내려가 마지막 노드에 후보 추가, 지나온 노드 목록 반환
+    private List<Node> insert(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+                i = key.length();
+            } else {
+                int common = commonPrefix(child.label, key, i);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                i += common;
+            }
+            node = child;
+            path.add(node);
+        }
+        node.terminals.add(suggestion);
+        return path;
+    }
+
+    // child의 간선을 앞 length 글자에서 나눠 중간 노드를 만듦
+    private Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top = child.top;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    // 정확히 key에 해당하는 노드까지의 경로 (put 된 키만 조회하므로 항상 존재)
+    private List<Node> find(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.children.get(key.charAt(i));
+            i += node.label.length();
+            path.add(node);
+        }
+        return path;
+    }
+
+    // 후보도 자식도 없는 노드는 부모에서 제거 (경로에서도 제외)
+    private void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (!node.terminals.isEmpty() || !node.children.isEmpty()) return;
+            path.get(i - 1).children.remove(node.label.charAt(0));
+            path.remove(i);
+        }
+    }
+
+    private void recomputeTops(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).top = best(path.get(i));
+        }
+    }
+
+    private void computeTops(Node node) {
+        node.children.values().forEach(this::computeTops);
+        node.top = best(node);
+    }
+
+    // 자신의 후보 + 자식들의 상위 후보 중 상위 capacity개
+    private List<Suggestion> best(Node node) {
+        return Stream.concat(node.terminals.stream(),
+                        node.children.values().stream().flatMap(child -> child.top.stream()))
+                .sorted(ORDER)
+                .limit(capacity)
+                .toList();
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) i++;
+        return i;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+        private List<Suggestion> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.likelion.vlog.autocomplete;
+
+/**
+ * 자동완성 후보
+ * - text: 표시 문자열 (태그 이름/닉네임, 인덱스 안에서 유일)
+ * - score: 순위 기준 (태그는 게시글 수, 회원은 팔로워 수)
+ */
+public record Suggestion(Long id, String text, long score) {
+
+    Suggestion withScore(long score) {
+        return new Suggestion(id, text, score);
+    }
+}
@@ -0,0 +1,55 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.posts.PostGetResponse;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 상세 캐시 항목
+ * - snapshot: 본문/태그/작성자/댓글 (변경 이벤트로만 무효화)
+ * - 조회수/좋아요 수: 자주 바뀌므로 항목 안에서 따로 갱신하고 응답 시 덮어씀
+ * - version: snapshot을 만든 시점의 ETag 버전 (조건부 GET을 쿼리 없이 처리)
+ */
+public class CachedPostDetail {
+
+    private final PostGetResponse snapshot;
+    private final Long version;
+    private final AtomicInteger viewCount;
+    private final AtomicInteger likeCount;
+
+    private CachedPostDetail(PostGetResponse snapshot, Long version) {
+        this.snapshot = snapshot;
+        this.version = version;
+        this.viewCount = new AtomicInteger(nullToZero(snapshot.getViewCount()));
+        this.likeCount = new AtomicInteger(nullToZero(snapshot.getLikeCount()));
+    }
+
+    public static CachedPostDetail of(PostGetResponse snapshot, Long version) {
+        return new CachedPostDetail(snapshot, version);
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public List<String> getTags() {
+        return snapshot.getTags();
+    }
+
+    public void recordView() {
+        viewCount.incrementAndGet();
+    }
+
+    void updateLikeCount(Integer count) {
+        likeCount.set(nullToZero(count));
+    }
+
+    public PostGetResponse toResponse() {
+        return snapshot.withCounts(viewCount.get(), likeCount.get());
+    }
+
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
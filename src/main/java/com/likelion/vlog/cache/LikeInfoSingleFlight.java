@@ -0,0 +1,42 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.like.LikeResponse;
+import com.likelion.vlog.event.LikeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 좋아요 정보 조회 합치기 (같은 회원 + 같은 게시글의 동시 조회를 한 번만 실행)
+ * - 결과는 저장하지 않음 (좋아요 직후 조회가 이전 값을 받지 않도록)
+ * - 좋아요 변경 커밋 후 해당 게시글의 조회 중인 항목은 합류 대상에서 제외
+ */
+@Component
+public class LikeInfoSingleFlight {
+
+    private final SingleFlight<Key, LikeResponse> flight;
+
+    public LikeInfoSingleFlight(
+            @Value("${vlog.singleflight.like-info.wait-timeout:1s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        this.flight = new SingleFlight<>("like-info", waitTimeout, meterRegistry);
+    }
+
+    // email: 비로그인이면 null
+    public LikeResponse get(String email, Long postId, Supplier<LikeResponse> loader) {
+        return flight.execute(new Key(email, postId), loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        flight.forgetIf(key -> key.postId().equals(event.getPostId()));
+    }
+
+    private record Key(String email, Long postId) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.tags.TagPopularGetResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 인기 태그 캐시
+ * - 최대 개수(max-count)만큼 한 번 조회해 두고 요청 개수만큼 잘라서 반환
+ * - 게시글 수는 자주 바뀌므로 이벤트 무효화 없이 TTL 만큼 늦게 반영
+ */
+@Component
+public class PopularTagCache {
+
+    private static final String KEY = "popular";
+
+    private final SingleFlightCache<String, List<TagPopularGetResponse>> cache;
+    private final int maxCount;
+
+    public PopularTagCache(
+            @Value("${vlog.cache.popular-tags.max-count:100}") int maxCount,
+            @Value("${vlog.cache.popular-tags.ttl:1m}") Duration ttl,
+            @Value("${vlog.cache.popular-tags.wait-timeout:3s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        this.cache = new SingleFlightCache<>("popular-tags", 1, ttl, waitTimeout, meterRegistry);
+        this.maxCount = maxCount;
+    }
+
+    public int getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * 상위 size개 (loader는 상위 max-count개를 조회)
+     */
+    public List<TagPopularGetResponse> get(int size, Supplier<List<TagPopularGetResponse>> loader) {
+        List<TagPopularGetResponse> popular = cache.get(KEY, loader);
+        return popular.size() <= size ? popular : popular.subList(0, size);
+    }
+}
@@ -0,0 +1,65 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.event.CommentChangedEvent;
+import com.likelion.vlog.event.LikeChangedEvent;
+import com.likelion.vlog.event.PostChangedEvent;
+import com.likelion.vlog.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 응답 캐시
+ * - 게시글 수정/삭제, 댓글 변경 커밋 후 해당 게시글 무효화
+ * - 회원 정보 변경은 여러 게시글의 댓글 작성자에 걸리므로 전체 무효화
+ * - 좋아요 수는 무효화 대신 항목의 카운터만 갱신
+ * - 다른 인스턴스의 조회수/좋아요 반영은 TTL 만큼 늦을 수 있음
+ */
+@Component
+public class PostDetailCache {
+
+    private final SingleFlightCache<Long, CachedPostDetail> cache;
+
+    public PostDetailCache(
+            @Value("${vlog.cache.post-detail.max-size:10000}") long maxSize,
+            @Value("${vlog.cache.post-detail.ttl:5m}") Duration ttl,
+            @Value("${vlog.cache.post-detail.wait-timeout:3s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        this.cache = new SingleFlightCache<>("post-detail", maxSize, ttl, waitTimeout, meterRegistry);
+    }
+
+    public CachedPostDetail get(Long postId, Supplier<CachedPostDetail> loader) {
+        return cache.get(postId, loader);
+    }
+
+    public Optional<CachedPostDetail> getIfPresent(Long postId) {
+        return cache.getIfPresent(postId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        cache.invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        getIfPresent(event.getPostId())
+                .ifPresent(detail -> detail.updateLikeCount(event.getLikeCount()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidateAll();
+    }
+}
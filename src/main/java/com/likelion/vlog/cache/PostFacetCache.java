@@ -0,0 +1,63 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.posts.PostFacetGetResponse;
+import com.likelion.vlog.event.PostChangedEvent;
+import com.likelion.vlog.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 태그 facet 캐시
+ * - 키: 검색 조건만 남긴 PostListCacheKey (페이지/정렬이 달라도 같은 facet)
+ * - 집계 상한: 태그 max-tags개, 최근 게시글 max-posts건
+ * - 무효화 기준은 게시글 목록 캐시와 같음
+ */
+@Component
+public class PostFacetCache {
+
+    private final SingleFlightCache<PostListCacheKey, PostFacetGetResponse> cache;
+
+    private final int maxTags;
+    private final int maxPosts;
+
+    public PostFacetCache(
+            @Value("${vlog.search.facets.max-tags:20}") int maxTags,
+            @Value("${vlog.search.facets.max-posts:1000}") int maxPosts,
+            @Value("${vlog.cache.post-facets.max-size:1000}") long maxSize,
+            @Value("${vlog.cache.post-facets.ttl:1m}") Duration ttl,
+            @Value("${vlog.cache.post-facets.wait-timeout:3s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        this.cache = new SingleFlightCache<>("post-facets", maxSize, ttl, waitTimeout, meterRegistry);
+        this.maxTags = maxTags;
+        this.maxPosts = maxPosts;
+    }
+
+    public int getMaxTags() {
+        return maxTags;
+    }
+
+    public int getMaxPosts() {
+        return maxPosts;
+    }
+
+    public PostFacetGetResponse get(PostListCacheKey key, Supplier<PostFacetGetResponse> loader) {
+        return cache.get(key.toFacetKey(), loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidateIf(key -> key.isAffectedBy(event.getBlogId(), event.getTags()));
+    }
+
+    // 작성자 닉네임 검색 결과가 바뀌거나 탈퇴로 게시글이 삭제되므로 해당 블로그의 항목 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidateIf(key -> key.isAffectedBy(event.getBlogId(), null));
+    }
+}
@@ -0,0 +1,50 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.posts.PageResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.event.PostChangedEvent;
+import com.likelion.vlog.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 응답 캐시
+ * - 키: 정규화된 PostGetRequest (PostListCacheKey)
+ * - 크기 상한 + TTL 상한 (좋아요/조회수 등 이벤트로 무효화하지 않는 값은 TTL 만큼 늦게 반영)
+ * - 게시글 작성/수정/삭제 커밋 후 해당 블로그/태그에 걸리는 항목만 무효화
+ * - 같은 키의 동시 miss는 한 번만 조회하고 나머지는 그 결과를 대기 (single-flight)
+ */
+@Component
+public class PostListCache {
+
+    private final SingleFlightCache<PostListCacheKey, PageResponse<PostListGetResponse>> cache;
+
+    public PostListCache(
+            @Value("${vlog.cache.post-list.max-size:1000}") long maxSize,
+            @Value("${vlog.cache.post-list.ttl:30s}") Duration ttl,
+            @Value("${vlog.cache.post-list.wait-timeout:3s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        this.cache = new SingleFlightCache<>("post-list", maxSize, ttl, waitTimeout, meterRegistry);
+    }
+
+    public PageResponse<PostListGetResponse> get(PostListCacheKey key, Supplier<PageResponse<PostListGetResponse>> loader) {
+        return cache.get(key, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidateIf(key -> key.isAffectedBy(event.getBlogId(), event.getTags()));
+    }
+
+    // 목록에 작성자 정보가 들어가므로 해당 블로그의 항목 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidateIf(key -> key.isAffectedBy(event.getBlogId(), null));
+    }
+}
@@ -0,0 +1,111 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import com.likelion.vlog.enums.PostField;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.enums.SortField;
+import com.likelion.vlog.enums.TagMode;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 캐시 키
+ * - 같은 결과를 내는 요청은 같은 키가 되도록 정규화
+ *   (키워드 공백/대소문자 제거, 태그 정렬/중복 제거, 쓰이지 않는 search/tagMode 제거)
+ * - 응답 필드(fields)가 다르면 조회 컬럼이 다르므로 다른 키
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostListCacheKey {
+
+    private final int page;
+    private final int size;
+    private final Long blogId;
+    private final String keyword;
+    private final SearchFiled search;
+    private final List<String> tags;
+    private final TagMode tagMode;
+    private final SortField sort;
+    private final boolean asc;
+    private final boolean withTotal;
+    private final Set<PostField> fields;
+
+    public static PostListCacheKey from(PostGetRequest request) {
+        Long blogId = request.getBlogId() != null && request.getBlogId() > 0 ? request.getBlogId() : null;
+
+        String keyword = request.getKeyword() == null || request.getKeyword().isBlank()
+                ? null
+                : request.getKeyword().replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+
+        List<String> tags = request.getTag() == null ? List.of() : request.getTag().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+
+        return new PostListCacheKey(
+                request.getPage(),
+                request.getSize(),
+                blogId,
+                keyword,
+                keyword == null ? null : request.getSearch(),
+                tags,
+                tags.isEmpty() ? null : request.getTagMode(),
+                request.getSort(),
+                request.isAsc(),
+                request.isWithTotal(),
+                PostField.resolve(request.getFields())
+        );
+    }
+
+    /**
+     * 태그 facet 캐시 키 (페이지/정렬과 무관하게 검색 조건만 남김)
+     */
+    public PostListCacheKey toFacetKey() {
+        return new PostListCacheKey(0, 0, blogId, keyword, search, tags, tagMode, null, false, false, Set.of());
+    }
+
+    /**
+     * 블로그/검색어/태그 조건이 하나라도 있는지 (없으면 전체 게시글 대상)
+     */
+    public boolean hasFilter() {
+        return blogId != null || keyword != null || !tags.isEmpty();
+    }
+
+    /**
+     * 해당 블로그/태그의 게시글 변경이 이 목록 결과에 영향을 줄 수 있는지
+     * - 키워드 검색은 판단하지 않고 항상 영향 있음으로 처리
+     * - 태그는 대소문자 무시 비교 (MySQL 기본 collation)
+     * - changedTags가 null이면 블로그 단위 변경 (모든 태그 조건이 대상)
+     */
+    public boolean isAffectedBy(Long changedBlogId, Set<String> changedTags) {
+        if (blogId != null && !blogId.equals(changedBlogId)) return false;
+        if (changedTags == null || tags.isEmpty() || tagMode == TagMode.NAND) return true;
+
+        Set<String> lowerChanged = lowerCase(changedTags);
+        return switch (tagMode) {
+            case OR -> tags.stream().anyMatch(tag -> lowerChanged.contains(tag.toLowerCase(Locale.ROOT)));
+            case AND -> tags.stream().allMatch(tag -> lowerChanged.contains(tag.toLowerCase(Locale.ROOT)));
+            case NAND -> true;
+        };
+    }
+
+    private static Set<String> lowerCase(Set<String> values) {
+        return values.stream()
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,89 @@
+package com.likelion.vlog.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 한 번만 실행 (결과는 저장하지 않음)
+ * - loader는 처음 들어온 호출 스레드에서 실행, 나머지는 그 결과(또는 예외)를 공유
+ * - 대기 시간 초과 시 직접 조회
+ * - 조회가 끝나면 바로 제거되므로 이후 호출은 새로 조회
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration waitTimeout;
+    private final SingleFlightMetrics metrics;
+
+    public SingleFlight(String name, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.waitTimeout = waitTimeout;
+        this.metrics = new SingleFlightMetrics(name, meterRegistry);
+        Gauge.builder("vlog.singleflight.in-flight", inFlight, ConcurrentMap::size)
+                .description("조회 중인 키 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, loading);
+
+        if (existing != null) {
+            return await(name, existing, loader, waitTimeout, metrics);
+        }
+
+        metrics.load.increment();
+        try {
+            V value = loader.get();
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, loading);
+        }
+    }
+
+    /**
+     * 조회 중인 항목을 목록에서 제거 (쓰기 커밋 이후 들어온 호출이 이전 결과에 합류하지 않도록)
+     */
+    public void forgetIf(Predicate<K> predicate) {
+        inFlight.keySet().removeIf(predicate);
+    }
+
+    static <V> V await(String name, CompletableFuture<V> future, Supplier<V> loader,
+                       Duration waitTimeout, SingleFlightMetrics metrics) {
+        try {
+            V value = future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            metrics.shared.increment();
+            return value;
+        } catch (TimeoutException e) {
+            metrics.timeout.increment();
+            log.debug("{} 대기 시간 초과, 직접 조회", name);
+            return loader.get();
+        } catch (ExecutionException e) {
+            metrics.shared.increment();
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.likelion.vlog.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 miss를 한 번만 조회하는 로컬 캐시 (single-flight)
+ * - 크기 상한 + TTL 상한 (Caffeine)
+ * - loader는 처음 miss 난 호출 스레드에서 실행 (호출 측 트랜잭션/인증 정보 그대로 사용)
+ * - 나머지 요청은 그 결과(또는 예외)를 대기, 대기 시간 초과 시 직접 조회 (캐시에는 저장하지 않음)
+ * - 조회 중인 항목도 키로 보이므로, 조회 도중 들어온 무효화가 오래된 결과를 남기지 않음
+ * - hit/load/shared/timeout 횟수를 vlog.singleflight.calls 로 기록 (SingleFlightMetrics)
+ */
+public class SingleFlightCache<K, V> {
+
+    private final String name;
+    private final AsyncCache<K, V> cache;
+    private final Duration waitTimeout;
+    private final SingleFlightMetrics metrics;
+
+    public SingleFlightCache(String name, long maxSize, Duration ttl, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+        this.waitTimeout = waitTimeout;
+        this.metrics = new SingleFlightMetrics(name, meterRegistry);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, loading);
+
+        if (existing != null) {
+            if (existing.isDone() && !existing.isCompletedExceptionally()) {
+                metrics.hit.increment();
+                return existing.join();
+            }
+            return SingleFlight.await(name, existing, loader, waitTimeout, metrics);
+        }
+
+        metrics.load.increment();
+        try {
+            V value = loader.get();
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 조회가 끝난 항목만 반환 (조회 중이거나 없으면 empty)
+     */
+    public Optional<V> getIfPresent(K key) {
+        CompletableFuture<V> future = cache.asMap().get(key);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) return Optional.empty();
+        return Optional.ofNullable(future.join());
+    }
+
+    public void invalidate(K key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        cache.asMap().keySet().removeIf(predicate);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,35 @@
+package com.likelion.vlog.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * single-flight 호출 결과 카운터 (vlog.singleflight.calls{name, result})
+ * - load: 직접 조회 (처음 miss 난 호출)
+ * - shared: 조회 중인 결과에 합류
+ * - hit: 캐시에 있던 결과 (SingleFlightCache)
+ * - timeout: 대기 시간 초과로 직접 조회
+ * - 합류 비율 = shared / 전체
+ */
+final class SingleFlightMetrics {
+
+    final Counter load;
+    final Counter shared;
+    final Counter hit;
+    final Counter timeout;
+
+    SingleFlightMetrics(String name, MeterRegistry meterRegistry) {
+        this.load = counter(meterRegistry, name, "load");
+        this.shared = counter(meterRegistry, name, "shared");
+        this.hit = counter(meterRegistry, name, "hit");
+        this.timeout = counter(meterRegistry, name, "timeout");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("vlog.singleflight.calls")
+                .description("single-flight 호출 수 (결과별)")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.likelion.vlog.config;
+
+import com.likelion.vlog.config.datasource.DataSourceType;
+import com.likelion.vlog.config.datasource.ReadYourWritesTracker;
+import com.likelion.vlog.config.datasource.ReplicaLagMonitor;
+import com.likelion.vlog.config.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ * - vlog.datasource.replica.enabled=true 일 때만 활성화 (기본은 단일 DataSource)
+ * - Primary: spring.datasource.*, Replica: vlog.datasource.replica.*
+ * - 로컬 테스트: Replica url을 다른 H2 인스턴스나 다른 MySQL 스키마로 지정
+ */
+@Configuration
+@ConditionalOnProperty(name = "vlog.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("vlog.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource() {
+        return primaryDataSourceProperties().initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("vlog.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = replicaDataSourceProperties().initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${vlog.datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReadYourWritesTracker readYourWritesTracker,
+            @Value("${vlog.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${vlog.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${vlog.datasource.replica.max-lag:3s}") Duration maxLag) {
+        return new ReplicaLagMonitor(replicaDataSource(), readYourWritesTracker, lagQuery, lagColumn, maxLag);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(ReadYourWritesTracker readYourWritesTracker,
+                                                      ReplicaLagMonitor replicaLagMonitor) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(readYourWritesTracker, replicaLagMonitor);
+        routing.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource(),
+                DataSourceType.REPLICA, replicaDataSource()
+        ));
+        routing.setDefaultTargetDataSource(primaryDataSource());
+        return routing;
+    }
+
+    /**
+     * JPA가 사용하는 DataSource
+     * - 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄서, 트랜잭션의 readOnly 플래그가 정해진 뒤 라우팅되게 한다
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
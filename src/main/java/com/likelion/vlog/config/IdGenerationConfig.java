@@ -0,0 +1,36 @@
+package com.likelion.vlog.config;
+
+import com.likelion.vlog.config.datasource.SequenceTableAllocator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ID 생성 설정
+ * - MySQL 시퀀스 테이블(*_seq) 블록 갱신용 전용 커넥션 풀 (Primary와 같은 DB, 요청 풀과 별도)
+ * - DataSource 빈으로 등록하지 않음 (JPA/Replica 라우팅의 DataSource 선택에 끼어들지 않도록)
+ */
+@Configuration
+public class IdGenerationConfig {
+
+    @Bean(destroyMethod = "close")
+    public SequenceTableAllocator sequenceTableAllocator(
+            DataSourceProperties dataSourceProperties,
+            @Value("${vlog.datasource.id-allocation.pool-size:2}") int poolSize) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("id-allocation");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        return new SequenceTableAllocator(dataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sequenceTableAllocatorCustomizer(SequenceTableAllocator sequenceTableAllocator) {
+        return properties -> properties.put(SequenceTableAllocator.SETTING, sequenceTableAllocator);
+    }
+}
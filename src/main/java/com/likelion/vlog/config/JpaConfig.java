@@ -5,7 +5,10 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @EnableJpaAuditing
@@ -17,4 +20,26 @@ public class JpaConfig {
     public JPAQueryFactory jpaQueryFactory(){
         return new JPAQueryFactory(entityManager);
     }
+
+    /**
+     * 기본 TransactionTemplate
+     * - 아래 읽기 전용 템플릿을 등록하면 Boot 자동 구성이 빠지므로 직접 등록
+     */
+    @Bean
+    @Primary
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 읽기 전용 TransactionTemplate
+     * - 요청 스레드 밖(별도 스레드)에서 조회 쿼리를 실행할 때 사용
+     * - Replica 라우팅이 켜져 있으면 Replica 커넥션을 사용
+     */
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
 }
@@ -3,10 +3,13 @@ package com.likelion.vlog.config;
 import com.likelion.vlog.exception.AuthEntryPoint;
 import com.likelion.vlog.service.AuthService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -14,11 +17,15 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.List;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -33,7 +40,9 @@ public class ProjectSecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${vlog.monitoring.allowed-networks}") List<String> monitoringNetworks) throws Exception {
 
         http
                 .csrf(csrf -> csrf.disable());
@@ -63,12 +72,17 @@ public class ProjectSecurityConfig {
                         "/api/v1/users/*",      // 사용자 프로필 조회
                         "/api/v1/posts",        // 전체 게시글 조회
                         "/api/v1/posts/*",      // 게시글 상세 조회
+                        "/api/v1/tags",          // 인기 태그 목록
                         "/api/v1/tags/*",        // 태그 이름으로 조회
+                        "/api/v1/autocomplete",  // 태그/닉네임 자동완성
                         "/api/v1/posts/*/like",   //좋아요 조회
                         "/api/v1/users/*/followers", // 팔로워 조회
                         "/api/v1/users/*/followings" // 팔로잉 조회
                 ).permitAll()
 
+                // 모니터링 (Actuator/Prometheus): 내부망에서만 허용
+                .requestMatchers("/actuator/**").access(fromNetworks(monitoringNetworks))
+
                 // Swagger UI
                 .requestMatchers(
                         "/swagger-ui/**",
@@ -131,6 +145,19 @@ public class ProjectSecurityConfig {
         return http.build();
     }
 
+    /**
+     * 요청 IP가 허용 대역(CIDR) 중 하나에 속하면 허용
+     * - 프록시 뒤에서는 server.forward-headers-strategy 설정으로 원 IP가 remoteAddr에 반영되어야 함
+     */
+    private AuthorizationManager<RequestAuthorizationContext> fromNetworks(List<String> networks) {
+        List<IpAddressMatcher> matchers = networks.stream()
+                .map(String::trim)
+                .map(IpAddressMatcher::new)
+                .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
     @Bean
     public HttpSessionSecurityContextRepository securityContextRepository() {
         HttpSessionSecurityContextRepository repository = new HttpSessionSecurityContextRepository();
@@ -0,0 +1,44 @@
+package com.likelion.vlog.config;
+
+import com.likelion.vlog.monitoring.QueryStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * 병렬 조회 쿼리용 Executor
+ * - 목록 조회의 count 쿼리 등을 본문 조회와 동시에 실행
+ * - 작업마다 커넥션을 하나씩 쓰므로 pool-size는 Hikari 풀 크기보다 작게 유지
+ * - 큐가 가득 차면 RejectedExecutionException → 호출 측에서 직접 실행
+ */
+@Configuration
+public class QueryExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor queryExecutor(
+            @Value("${vlog.query.executor.pool-size:4}") int poolSize,
+            @Value("${vlog.query.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("query-");
+        // Replica 라우팅의 read-your-writes 판단에 필요한 인증 정보와 요청별 SQL 집계 전달
+        executor.setTaskDecorator(runnable -> {
+            QueryStats stats = QueryStats.current();
+            Runnable withSecurityContext = new DelegatingSecurityContextRunnable(runnable);
+            return () -> {
+                QueryStats.bind(stats);
+                try {
+                    withSecurityContext.run();
+                } finally {
+                    QueryStats.clear();
+                }
+            };
+        });
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.likelion.vlog.config;
 
+import com.likelion.vlog.enums.PostField;
+import com.likelion.vlog.enums.PostInclude;
 import com.likelion.vlog.enums.SearchFiled;
 import com.likelion.vlog.enums.SortField;
 import com.likelion.vlog.enums.TagMode;
@@ -15,5 +17,7 @@ public class appConfig implements WebMvcConfigurer {
         registry.addConverter(String.class, SortField.class, SortField::from);
         registry.addConverter(String.class, SearchFiled.class, SearchFiled::from);
         registry.addConverter(String.class, TagMode.class, TagMode::from);
+        registry.addConverter(String.class, PostField.class, PostField::from);
+        registry.addConverter(String.class, PostInclude.class, PostInclude::from);
     }
 }
@@ -0,0 +1,8 @@
+package com.likelion.vlog.config.datasource;
+
+/**
+ * 라우팅 대상 DataSource 구분
+ */
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
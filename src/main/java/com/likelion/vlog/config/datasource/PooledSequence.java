@@ -0,0 +1,25 @@
+package com.likelion.vlog.config.datasource;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * pooled-lo 시퀀스 ID (@GeneratedValue + @SequenceGenerator 대신 사용)
+ * - H2 등 시퀀스가 있는 DB: 네이티브 시퀀스
+ * - MySQL: name 테이블(*_seq), 블록 갱신은 전용 커넥션에서 (PooledSequenceGenerator)
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledSequence {
+
+    // 시퀀스(또는 시퀀스 테이블) 이름
+    String name();
+
+    // 한 번에 예약하는 ID 수
+    int allocationSize() default 50;
+}
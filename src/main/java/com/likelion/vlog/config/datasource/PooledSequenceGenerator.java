@@ -0,0 +1,91 @@
+package com.likelion.vlog.config.datasource;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * @PooledSequence ID 생성기
+ * - 시퀀스가 있는 DB는 Hibernate 기본 동작 그대로 (현재 커넥션에서 next value)
+ * - 시퀀스 테이블(MySQL)은 블록 갱신을 SequenceTableAllocator 전용 커넥션에서 실행
+ *   (기본 동작은 요청과 같은 풀에서 커넥션을 하나 더 꺼내므로, 쓰기 요청이 풀을 모두 차지하면 교착)
+ * - 전용 커넥션이 등록되지 않은 환경(벤치마크 등)은 기본 동작
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator implements AnnotationBasedGenerator<PooledSequence> {
+
+    private PooledSequence config;
+    private SequenceTableAllocator allocator;
+    private Identifier valueColumn;
+    private String updateSql;
+    private String selectSql;
+
+    @Override
+    public void initialize(PooledSequence annotation, Member member, GeneratorCreationContext context) {
+        this.config = annotation;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        parameters.put(SEQUENCE_PARAM, config.name());
+        parameters.put(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(config.allocationSize()));
+        super.configure(type, parameters, serviceRegistry);
+        allocator = (SequenceTableAllocator) serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(SequenceTableAllocator.SETTING);
+    }
+
+    @Override
+    protected Identifier determineValueColumnName(Properties params, JdbcEnvironment jdbcEnvironment) {
+        valueColumn = super.determineValueColumnName(params, jdbcEnvironment);
+        return valueColumn;
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        super.initialize(context);
+        if (getDatabaseStructure().isPhysicalSequence()) return;
+
+        String table = context.format(getDatabaseStructure().getPhysicalName());
+        String column = valueColumn.render(context.getDialect());
+        selectSql = "SELECT " + column + " FROM " + table + " FOR UPDATE";
+        updateSql = "UPDATE " + table + " SET " + column + " = ? WHERE " + column + " = ?";
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (allocator == null || selectSql == null) {
+            return super.generate(session, object);
+        }
+        return getOptimizer().generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                int increment = getOptimizer().applyIncrementSizeToSourceValues()
+                        ? getDatabaseStructure().getIncrementSize()
+                        : 1;
+                IntegralDataTypeHolder value = IdentifierGeneratorHelper
+                        .getIntegralDataTypeHolder(getIdentifierType().getReturnedClass());
+                value.initialize(allocator.next(selectSql, updateSql, increment));
+                return value;
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return session.getTenantIdentifier();
+            }
+        });
+    }
+}
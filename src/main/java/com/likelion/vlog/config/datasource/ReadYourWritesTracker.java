@@ -0,0 +1,58 @@
+package com.likelion.vlog.config.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes 고정(sticky) 관리
+ * - 사용자가 쓰기 트랜잭션을 커밋하면 일정 시간 동안 그 사용자의 읽기도 Primary로 보낸다
+ * - 복제 지연 때문에 "방금 쓴 글이 안 보이는" 현상을 막기 위함
+ * - 키는 로그인 사용자(email), 비로그인 요청은 고정 대상이 아님
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickyWindowNanos;
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+    }
+
+    public void markWrite(String userKey) {
+        if (userKey == null) return;
+        lastWriteAt.put(userKey, System.nanoTime());
+    }
+
+    public boolean isSticky(String userKey) {
+        if (userKey == null) return false;
+        Long writtenAt = lastWriteAt.get(userKey);
+        if (writtenAt == null) return false;
+        if (System.nanoTime() - writtenAt < stickyWindowNanos) return true;
+        lastWriteAt.remove(userKey, writtenAt);
+        return false;
+    }
+
+    // 만료된 항목 정리 (맵이 무한히 커지지 않도록 주기적으로 호출)
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteAt.entrySet().removeIf(e -> now - e.getValue() >= stickyWindowNanos);
+    }
+
+    /**
+     * 현재 스레드의 로그인 사용자 키 (비로그인이면 null)
+     */
+    public static String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
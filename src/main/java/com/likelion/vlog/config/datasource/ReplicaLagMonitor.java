@@ -0,0 +1,85 @@
+package com.likelion.vlog.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Replica 상태 감시
+ * - 연결 불가 또는 복제 지연이 허용치를 넘으면 읽기를 Primary로 되돌린다
+ * - lag-query가 비어 있으면 연결 가능 여부만 확인 (로컬 H2 / 별도 스키마 테스트용)
+ * - MySQL 8: SHOW REPLICA STATUS 의 Seconds_Behind_Source 사용
+ * - 첫 확인이 성공하기 전까지는 Primary로 읽음 (기동 직후 캐시 적재 등)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+
+    // 첫 확인 전에는 Replica 상태를 모르므로 Primary로 읽음
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource,
+                             ReadYourWritesTracker readYourWritesTracker,
+                             String lagQuery,
+                             String lagColumn,
+                             Duration maxLag) {
+        this.replicaDataSource = replicaDataSource;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${vlog.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        boolean available = probe();
+        if (available != replicaAvailable) {
+            log.warn("Replica routing {}", available ? "복구 - 읽기를 Replica로 보냄" : "중단 - 읽기를 Primary로 보냄");
+        }
+        replicaAvailable = available;
+        readYourWritesTracker.purgeExpired();
+    }
+
+    private boolean probe() {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                return connection.isValid(1);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    log.debug("Replica lag 조회 결과 없음 (복제 미설정?)");
+                    return false;
+                }
+                long lag = rs.getLong(lagColumn);
+                if (rs.wasNull()) {
+                    log.debug("Replica 복제 중단 상태 ({} = NULL)", lagColumn);
+                    return false;
+                }
+                if (lag > maxLagSeconds) {
+                    log.debug("Replica lag {}s > 허용치 {}s", lag, maxLagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (Exception e) {
+            log.debug("Replica 상태 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
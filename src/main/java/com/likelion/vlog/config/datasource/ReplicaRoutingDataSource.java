@@ -0,0 +1,55 @@
+package com.likelion.vlog.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 readOnly 여부로 Primary / Replica를 고르는 DataSource
+ * - @Transactional(readOnly = true) → Replica
+ *   (단, 최근 쓰기한 사용자거나 Replica가 지연/장애 상태면 Primary)
+ * - 그 외 → Primary, 커밋 후 해당 사용자를 read-your-writes 고정 대상으로 등록
+ * - 커넥션 획득 시점에 readOnly 플래그가 정해져 있어야 하므로
+ *   반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(ReadYourWritesTracker readYourWritesTracker,
+                                    ReplicaLagMonitor replicaLagMonitor) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userKey = ReadYourWritesTracker.currentUserKey();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMark(userKey);
+            return DataSourceType.PRIMARY;
+        }
+
+        if (readYourWritesTracker.isSticky(userKey) || !replicaLagMonitor.isReplicaAvailable()) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 커밋된 뒤에만 고정 시작 (롤백이면 무시)
+    private void registerWriteMark(String userKey) {
+        if (userKey == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userKey);
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.likelion.vlog.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.id.IdentifierGenerationException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 시퀀스 테이블(*_seq) ID 블록 할당 전용 커넥션 풀
+ * - 요청 풀과 분리되어 있어, 커넥션을 쥔 쓰기 요청이 풀을 모두 차지해도 블록 갱신이 멈추지 않음
+ * - 블록(allocationSize개)을 다 쓸 때만 사용하므로 커넥션 몇 개면 충분
+ * - 시퀀스가 있는 DB에서는 쓰이지 않으므로 첫 할당 때 연결 (HikariDataSource 지연 초기화)
+ */
+public class SequenceTableAllocator implements AutoCloseable {
+
+    // Hibernate 설정 키 (PooledSequenceGenerator가 조회)
+    public static final String SETTING = "vlog.id.sequence-table-allocator";
+
+    private final HikariDataSource dataSource;
+
+    public SequenceTableAllocator(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.dataSource.setAutoCommit(false);
+    }
+
+    /**
+     * 현재 값을 읽고 increment만큼 증가시킨 뒤 커밋 (읽은 값이 블록의 시작)
+     */
+    long next(String selectSql, String updateSql, int increment) {
+        try (Connection connection = dataSource.getConnection()) {
+            try {
+                long value = select(connection, selectSql);
+                try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+                    update.setLong(1, value + increment);
+                    update.setLong(2, value);
+                    if (update.executeUpdate() != 1) {
+                        throw new IdentifierGenerationException("시퀀스 테이블 갱신 실패: " + updateSql);
+                    }
+                }
+                connection.commit();
+                return value;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentifierGenerationException("시퀀스 테이블 조회 실패: " + selectSql, e);
+        }
+    }
+
+    private long select(Connection connection, String selectSql) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(selectSql);
+             ResultSet rs = select.executeQuery()) {
+            if (!rs.next()) {
+                throw new IdentifierGenerationException("시퀀스 테이블이 비어 있음: " + selectSql);
+            }
+            return rs.getLong(1);
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
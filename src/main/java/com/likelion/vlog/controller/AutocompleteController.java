@@ -0,0 +1,33 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.dto.autocomplete.AutocompleteGetResponse;
+import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.monitoring.QueryBudget;
+import com.likelion.vlog.service.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "자동완성", description = "태그/닉네임 자동완성 API")
+@RestController
+@RequestMapping("/api/v1/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @Operation(summary = "자동완성", description = "입력한 접두사로 시작하는 태그/닉네임 (게시글 수/팔로워 수 순)")
+    @GetMapping
+    @QueryBudget(0)
+    public ResponseEntity<ApiResponse<AutocompleteGetResponse>> autocomplete(
+            @RequestParam(name = "q") String q,
+            @RequestParam(name = "size", defaultValue = "5") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success("자동완성 조회 성공", autocompleteService.autocomplete(q, size)));
+    }
+}
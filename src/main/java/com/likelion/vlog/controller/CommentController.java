@@ -2,6 +2,7 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.comments.*;
 import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.monitoring.QueryBudget;
 import com.likelion.vlog.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,8 +27,14 @@ public class CommentController {
 
     @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록 조회 (답글 포함)")
     @GetMapping
+    @QueryBudget(3)
     public ResponseEntity<ApiResponse<List<CommentWithRepliesGetResponse>>> getComments(
-            @PathVariable Long postId) {
+            @PathVariable Long postId, WebRequest webRequest) {
+
+        // If-None-Match 일치 시 304
+        if (webRequest.checkNotModified(String.valueOf(commentService.getCommentsVersion(postId)))) {
+            return null;
+        }
 
         List<CommentWithRepliesGetResponse> response = commentService.getComments(postId);
         return ResponseEntity.ok(ApiResponse.success("댓글 목록 조회 성공", response));
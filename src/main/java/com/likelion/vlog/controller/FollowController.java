@@ -6,6 +6,7 @@ import com.likelion.vlog.dto.follows.FollowPostResponse;
 import com.likelion.vlog.dto.follows.FollowerGetResponse;
 import com.likelion.vlog.dto.follows.FollowingGetResponse;
 import com.likelion.vlog.dto.follows.PageResponse;
+import com.likelion.vlog.monitoring.QueryBudget;
 import com.likelion.vlog.service.FollowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,6 +51,7 @@ public class FollowController {
 
     @Operation(summary = "팔로워 목록 조회", description = "사용자의 팔로워 목록 조회 (페이징)")
     @GetMapping("/{user_id}/followers")
+    @QueryBudget(3)
     public ResponseEntity<ApiResponse<PageResponse<FollowerGetResponse>>> getFollowers(@PathVariable("user_id") Long userId, Pageable pageable) {
         Page<FollowerGetResponse> page = followService.getFollowers(userId, pageable);
         PageResponse<FollowerGetResponse> response = new PageResponse<>(
@@ -69,6 +71,7 @@ public class FollowController {
 
     @Operation(summary = "팔로잉 목록 조회", description = "사용자가 팔로우하는 목록 조회 (페이징)")
     @GetMapping("/{user_id}/followings")
+    @QueryBudget(2)
     public ResponseEntity<ApiResponse<PageResponse<FollowingGetResponse>>> getFollowings(@PathVariable("user_id") Long userId, Pageable pageable) {
         Page<FollowingGetResponse> page = followService.getFollowings(userId, pageable);
         PageResponse<FollowingGetResponse> response = new PageResponse<>(
@@ -2,6 +2,7 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.like.LikeResponse;
+import com.likelion.vlog.monitoring.QueryBudget;
 import com.likelion.vlog.service.LikeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +22,7 @@ public class LikeController {
 
     @Operation(summary = "좋아요 정보 조회", description = "게시글의 좋아요 수와 현재 사용자의 좋아요 여부 조회")
     @GetMapping
+    @QueryBudget(3)
     public ResponseEntity<ApiResponse<LikeResponse>> getLikes(
             @PathVariable Long postId,
             @AuthenticationPrincipal UserDetails userDetails) {
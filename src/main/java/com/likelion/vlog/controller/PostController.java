@@ -2,6 +2,9 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.posts.*;
+import com.likelion.vlog.enums.PostField;
+import com.likelion.vlog.enums.PostInclude;
+import com.likelion.vlog.monitoring.QueryBudget;
 import com.likelion.vlog.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +19,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Set;
 
 /**
  * 게시글 API 컨트롤러
@@ -30,21 +37,49 @@ public class PostController {
 
     private final PostService postService;
 
-    @Operation(summary = "게시글 목록 조회", description = "페이징, 태그/블로그 필터링 지원")
+    @Operation(summary = "게시글 목록 조회", description = "페이징, 태그/블로그 필터링, fields로 응답 필드 선택 지원")
     @GetMapping
+    @QueryBudget(7)
     public ResponseEntity<PageResponse<PostListGetResponse>> getPosts(@ModelAttribute PostGetRequest request) {
 
         PageResponse<PostListGetResponse> response = postService.getPosts(request);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "게시글 상세 조회", description = "댓글 포함 게시글 상세 정보 조회")
+    @Operation(summary = "게시글 상세 조회", description = "댓글 포함 게시글 상세 정보 조회 (ETag 지원, fields로 응답 필드 선택, include=likeState,comments로 좋아요 상태/댓글 포함)")
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostGetResponse>> getPost(@PathVariable Long postId) {
-        PostGetResponse response = postService.getPost(postId);
+    @QueryBudget(7)
+    public ResponseEntity<ApiResponse<PostGetResponse>> getPost(
+            @PathVariable Long postId,
+            @RequestParam(name = "fields", required = false) List<PostField> fields,
+            @RequestParam(name = "include", required = false) List<PostInclude> include,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        Set<PostInclude> includes = PostInclude.resolve(include);
+
+        // If-None-Match 일치 시 304 (응답 생성 없이 조회수만 증가)
+        // 본문의 조회수/좋아요 수는 버전 없이 바뀌므로 weak ETag (같은 버전이면 의미상 같은 응답)
+        // 좋아요 여부는 ETag 버전에 들어가지 않으므로 likeState를 포함하면 항상 본문 응답
+        if (!includes.contains(PostInclude.LIKE_STATE)
+                && webRequest.checkNotModified("W/\"" + postService.getPostVersion(postId) + "\"")) {
+            postService.recordView(postId);
+            return null;
+        }
+
+        String email = (userDetails != null) ? userDetails.getUsername() : null;
+        PostGetResponse response = postService.getPost(postId, PostField.resolve(fields), includes, email);
         return ResponseEntity.ok(ApiResponse.success("게시글 조회 성공", response));
     }
 
+    @Operation(summary = "연관 게시글 조회", description = "태그가 많이 겹치는 게시글 (최대 20개)")
+    @GetMapping("/{postId}/related")
+    @QueryBudget(0)
+    public ResponseEntity<ApiResponse<List<PostRelatedGetResponse>>> getRelatedPosts(
+            @PathVariable Long postId,
+            @RequestParam(name = "size", defaultValue = "5") int size) {
+        return ResponseEntity.ok(ApiResponse.success("연관 게시글 조회 성공", postService.getRelatedPosts(postId, size)));
+    }
+
     @Operation(summary = "게시글 작성", description = "새 게시글 작성 (인증 필요)")
     @PostMapping
     public ResponseEntity<ApiResponse<PostGetResponse>> createPost(
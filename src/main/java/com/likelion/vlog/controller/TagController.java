@@ -2,6 +2,8 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.tags.TagGetResponse;
+import com.likelion.vlog.dto.tags.TagPopularGetResponse;
+import com.likelion.vlog.monitoring.QueryBudget;
 import com.likelion.vlog.service.TagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,7 +12,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Tag(name = "태그", description = "태그 조회 API")
 @RestController
@@ -20,12 +26,29 @@ public class TagController {
 
     private  final TagService tagService;
 
+    @Operation(summary = "인기 태그 목록", description = "게시글 수가 많은 태그 상위 size개 (최대 100)")
+    @GetMapping
+    @QueryBudget(1)
+    public ResponseEntity<ApiResponse<List<TagPopularGetResponse>>> getPopularTags(
+            @RequestParam(name = "size", defaultValue = "20") int size
+    )
+    {
+        return ResponseEntity.ok(ApiResponse.success("인기 태그 조회 성공", tagService.getPopularTags(size)));
+    }
+
     @Operation(summary = "태그 조회", description = "태그 이름으로 태그 정보 조회")
     @GetMapping("/{title}")
+    @QueryBudget(2)
     public ResponseEntity<ApiResponse<TagGetResponse>> getTag(
-            @PathVariable(name = "title") String title
+            @PathVariable(name = "title") String title,
+            WebRequest webRequest
             )
     {
+        // If-None-Match 일치 시 304 (없는 태그는 ETag 없이 응답)
+        Long version = tagService.getTagVersion(title);
+        if (version != null && webRequest.checkNotModified(String.valueOf(version))) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success("태그 조회 성공", tagService.getTag(title)));
     }
 
@@ -3,6 +3,7 @@ package com.likelion.vlog.controller;
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.users.UserGetResponse;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
+import com.likelion.vlog.monitoring.QueryBudget;
 import com.likelion.vlog.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "사용자", description = "사용자 정보 조회/수정/탈퇴 API")
 @RestController
@@ -44,7 +46,12 @@ public class UserController {
 
     @Operation(summary = "회원정보 조회", description = "사용자 정보 조회")
     @GetMapping("/{user_id}")
-    public ResponseEntity<ApiResponse<UserGetResponse>> getUser(@PathVariable("user_id") Long userId) {
+    @QueryBudget(2)
+    public ResponseEntity<ApiResponse<UserGetResponse>> getUser(@PathVariable("user_id") Long userId, WebRequest webRequest) {
+        // If-None-Match 일치 시 304
+        if (webRequest.checkNotModified(String.valueOf(userService.getUserVersion(userId)))) {
+            return null;
+        }
         return ResponseEntity.ok(ApiResponse.success("회원정보 조회 성공", userService.getUser(userId)));
     }
 }
\ No newline at end of file
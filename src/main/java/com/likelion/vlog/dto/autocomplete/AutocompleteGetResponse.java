@@ -0,0 +1,32 @@
+package com.likelion.vlog.dto.autocomplete;
+
+import com.likelion.vlog.autocomplete.Suggestion;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 자동완성 응답 (태그 이름 / 회원)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AutocompleteGetResponse {
+
+    private List<String> tags;
+    private List<UserItem> users;
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class UserItem {
+        private Long userId;
+        private String nickname;
+    }
+
+    public static AutocompleteGetResponse of(List<Suggestion> tags, List<Suggestion> users) {
+        return new AutocompleteGetResponse(
+                tags.stream().map(Suggestion::text).toList(),
+                users.stream().map(user -> new UserItem(user.id(), user.text())).toList());
+    }
+}
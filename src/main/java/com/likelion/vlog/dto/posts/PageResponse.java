@@ -1,5 +1,6 @@
 package com.likelion.vlog.dto.posts;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -12,11 +13,14 @@ import java.util.List;
  * - Spring Data Page 객체를 API 응답 형식으로 변환
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PageResponse<T> {
     private List<T> content;        // 실제 데이터 목록
     private PageInfo pageInfo;      // 페이징 메타 정보
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PostFacetGetResponse facets; // 태그 facet (facets=true 요청만)
+
     @Getter
     @Builder
     public static class PageInfo {
@@ -46,4 +50,11 @@ public class PageResponse<T> {
                         .build())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * facet을 붙인 사본 (캐시된 응답은 그대로 둠)
+     */
+    public PageResponse<T> withFacets(PostFacetGetResponse facets) {
+        return toBuilder().facets(facets).build();
+    }
+}
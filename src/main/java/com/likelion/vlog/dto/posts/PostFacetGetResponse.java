@@ -0,0 +1,25 @@
+package com.likelion.vlog.dto.posts;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 목록의 태그 facet (검색 결과 안에서 태그별 게시글 수)
+ * - complete=false면 최근 게시글 일부(max-posts건)만 집계한 값
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class PostFacetGetResponse {
+
+    private List<TagCount> tags;
+    private boolean complete;
+
+    @Getter
+    @AllArgsConstructor
+    public static class TagCount {
+        private String title;
+        private long count;
+    }
+}
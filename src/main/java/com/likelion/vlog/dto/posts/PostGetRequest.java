@@ -1,5 +1,6 @@
 package com.likelion.vlog.dto.posts;
 
+import com.likelion.vlog.enums.PostField;
 import com.likelion.vlog.enums.SearchFiled;
 import com.likelion.vlog.enums.SortField;
 import com.likelion.vlog.enums.TagMode;
@@ -28,6 +29,15 @@ public class PostGetRequest {
     private SortField sort = SortField.CREATED_AT;
     private boolean asc;
 
+    // false면 count 쿼리 생략 (totalElements/totalPages는 근사값, last로 다음 페이지 판단)
+    private boolean withTotal = true;
+
+    // true면 검색 결과의 태그별 게시글 수(facets)를 함께 응답
+    private boolean facets;
+
+    // 응답 필드 선택 (요청: ...&fields=title,author,likeCount), 없으면 전체
+    private List<PostField> fields;
+
     public void normalize() {
         if (tag == null) tag = List.of();
     }
@@ -1,18 +1,24 @@
 package com.likelion.vlog.dto.posts;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.likelion.vlog.dto.comments.CommentWithRepliesGetResponse;
+import com.likelion.vlog.dto.like.LikeResponse;
 import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.enums.PostField;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 /**
  * GET /api/v1/posts/{postId} 응답 객체
+ * - fields로 고르지 않은 필드는 null이고 직렬화에서 빠짐
  */
 @Getter
-@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder(toBuilder = true)
 public class PostGetResponse {
     private Long postId;
     private String title;
@@ -21,8 +27,10 @@ public class PostGetResponse {
     private List<String> tags;
     private List<CommentWithRepliesGetResponse> comments;
     private Integer viewCount;
+    private Integer likeCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LikeResponse likeState;     // include=likeState 요청만
 
     /**
      * 정적 팩토리 메서드 (댓글 포함)
@@ -36,11 +44,49 @@ public class PostGetResponse {
                 .tags(tags)
                 .comments(comments)
                 .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
     }
 
+    /**
+     * 조회수/좋아요 수만 바꾼 사본 (캐시된 응답에 최신 값 반영)
+     */
+    public PostGetResponse withCounts(Integer viewCount, Integer likeCount) {
+        return toBuilder()
+                .viewCount(viewCount)
+                .likeCount(likeCount)
+                .build();
+    }
+
+    /**
+     * 좋아요 상태를 붙인 사본 (include=likeState)
+     */
+    public PostGetResponse withLikeState(LikeResponse likeState) {
+        return toBuilder()
+                .likeState(likeState)
+                .build();
+    }
+
+    /**
+     * 요청한 필드만 남긴 사본 (캐시된 전체 응답을 잘라서 반환할 때)
+     */
+    public PostGetResponse select(Set<PostField> fields) {
+        return PostGetResponse.builder()
+                .postId(postId)
+                .title(fields.contains(PostField.TITLE) ? title : null)
+                .content(fields.contains(PostField.CONTENT) ? content : null)
+                .author(fields.contains(PostField.AUTHOR) ? author : null)
+                .tags(fields.contains(PostField.TAGS) ? tags : null)
+                .comments(fields.contains(PostField.COMMENTS) ? comments : null)
+                .viewCount(fields.contains(PostField.VIEW_COUNT) ? viewCount : null)
+                .likeCount(fields.contains(PostField.LIKE_COUNT) ? likeCount : null)
+                .createdAt(fields.contains(PostField.CREATED_AT) ? createdAt : null)
+                .updatedAt(fields.contains(PostField.UPDATED_AT) ? updatedAt : null)
+                .build();
+    }
+
     /**
      * 정적 팩토리 메서드 (댓글 미포함 - 작성/수정 응답용)
      */
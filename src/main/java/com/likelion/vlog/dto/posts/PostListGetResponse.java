@@ -1,15 +1,19 @@
 package com.likelion.vlog.dto.posts;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.likelion.vlog.entity.Post;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * GET /api/v1/posts 응답 객체 (목록 조회)
+ * - fields로 고르지 않은 필드는 null이고 직렬화에서 빠짐
  */
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Builder
 public class PostListGetResponse {
     private Long postId;
@@ -18,16 +22,21 @@ public class PostListGetResponse {
     private Integer viewCount;
     private Integer likeCount;
     private AuthorResponse author;
+    private List<String> tags;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
 
-    public static PostListGetResponse of(Post post) {
+    /**
+     * @param tags 페이지 전체를 한 번에 조회한 태그 중 이 게시글의 것 (PostRepositoryCustom.findTagNames)
+     */
+    public static PostListGetResponse of(Post post, List<String> tags) {
         return PostListGetResponse.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .author(AuthorResponse.from(post.getBlog().getUser()))
+                .tags(tags)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .viewCount(post.getViewCount())
@@ -0,0 +1,28 @@
+package com.likelion.vlog.dto.posts;
+
+import com.likelion.vlog.related.RelatedPost;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /api/v1/posts/{postId}/related 응답 객체 (연관 게시글)
+ */
+@Getter
+@Builder
+public class PostRelatedGetResponse {
+    private Long postId;
+    private String title;
+    private List<String> tags;
+    private double similarity;
+
+    public static PostRelatedGetResponse from(RelatedPost related) {
+        return PostRelatedGetResponse.builder()
+                .postId(related.postId())
+                .title(related.title())
+                .tags(related.tags())
+                .similarity(related.similarity())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.likelion.vlog.dto.tags;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기 태그 (태그 이름 + 게시글 수)
+ */
+@Getter
+@AllArgsConstructor
+public class TagPopularGetResponse {
+    private String title;
+    private long usageCount;
+}
@@ -1,18 +1,23 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @Table(name = "blogs")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "blogs")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Blog extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @PooledSequence(name = "blogs_seq")
     @Column(name = "blog_id")
     private Long id;
 
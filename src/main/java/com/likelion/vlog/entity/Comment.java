@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,11 +11,15 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = @Index(name = "ix_comments_post_parent_created_at", columnList = "post_id, parent_id, created_at")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @PooledSequence(name = "comments_seq")
     @Column(name = "comment_id")
     private Long id;
 
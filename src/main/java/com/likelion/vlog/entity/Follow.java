@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,12 +15,14 @@ import lombok.NoArgsConstructor;
                         name = "unique_follower_following",
                         columnNames = {"follower_id", "following_id"}
                 )
-        }
+        },
+        indexes = @Index(name = "ix_follows_following_follower", columnList = "following_id, follower_id")
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @PooledSequence(name = "follows_seq")
     @Column(name = "follow_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,12 +15,14 @@ import lombok.NoArgsConstructor;
                         name = "unique_user_post",
                         columnNames = {"user_id", "post_id"}
                 )
-        }
+        },
+        indexes = @Index(name = "ix_likes_post_user", columnList = "post_id, user_id")
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Like extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @PooledSequence(name = "likes_seq")
     @Column(name = "like_id")
     private Long id;
 
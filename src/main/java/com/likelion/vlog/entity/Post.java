@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,11 +11,25 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 목록 정렬(SortField) x 블로그 필터 조합 (V3__covering_indexes.sql)
+                @Index(name = "ix_posts_created_at", columnList = "created_at, post_id"),
+                @Index(name = "ix_posts_updated_at", columnList = "updated_at, post_id"),
+                @Index(name = "ix_posts_view_count", columnList = "view_count, post_id"),
+                @Index(name = "ix_posts_like_count", columnList = "like_count, post_id"),
+                @Index(name = "ix_posts_blog_created_at", columnList = "blog_id, created_at, post_id"),
+                @Index(name = "ix_posts_blog_updated_at", columnList = "blog_id, updated_at, post_id"),
+                @Index(name = "ix_posts_blog_view_count", columnList = "blog_id, view_count, post_id"),
+                @Index(name = "ix_posts_blog_like_count", columnList = "blog_id, like_count, post_id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @PooledSequence(name = "posts_seq")
     @Column(name = "post_id")
     private Long id;
 
@@ -30,6 +45,10 @@ public class Post extends BaseEntity {
     @Column(name = "like_count")
     private Integer likeCount;
 
+    // ETag용 버전 (본문/태그 수정, 댓글 변경 시 증가)
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "blog_id")
     private Blog blog;
@@ -1,9 +1,14 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,13 +16,17 @@ import java.util.List;
 @Entity
 @Getter
 @Table(name = "tags")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
+@NaturalIdCache(region = "tags.title")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Tag extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @PooledSequence(name = "tags_seq")
     @Column(name = "tag_id")
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String title;
 
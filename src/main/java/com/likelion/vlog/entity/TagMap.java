@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,13 +15,14 @@ import lombok.NoArgsConstructor;
                         name = "unique_post_tag",
                         columnNames = {"post_id", "tag_id"}
                 )
-        }
+        },
+        indexes = @Index(name = "ix_tag_maps_tag_post", columnList = "tag_id, post_id")
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TagMap extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "tag_maps_seq")
     @Column(name = "tag_map_id")
     private Long id;
 
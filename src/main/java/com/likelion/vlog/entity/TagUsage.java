@@ -0,0 +1,40 @@
+package com.likelion.vlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그별 게시글 수 카운터 (tags와 1:1)
+ * - 게시글 작성/수정/삭제마다 바뀌므로 2차 캐시 대상인 Tag와 분리
+ *   (Tag에 bulk UPDATE를 하면 Hibernate가 tags 캐시 영역 전체를 비움)
+ * - TagUsageRepository의 bulk UPDATE로만 증감
+ */
+@Entity
+@Getter
+@Table(name = "tag_usage_counts",
+        // 인기 태그 조회 (V5__tag_usage_counts.sql)
+        indexes = @Index(name = "ix_tag_usage_counts_usage_count", columnList = "usage_count, tag_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagUsage {
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id")
+    private Tag tag;
+
+    @Column(name = "usage_count", nullable = false)
+    private long usageCount;
+
+    // 태그 생성 시 함께 생성 (0에서 시작)
+    public static TagUsage of(Tag tag) {
+        TagUsage usage = new TagUsage();
+        usage.tag = tag;
+        return usage;
+    }
+}
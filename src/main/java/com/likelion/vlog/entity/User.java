@@ -1,10 +1,15 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.config.datasource.PooledSequence;
 import com.likelion.vlog.dto.auth.SignupRequest;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -13,10 +18,13 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users.email")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @PooledSequence(name = "users_seq")
     @Column(name = "user_id")
     private Long id;
 
@@ -24,6 +32,7 @@ public class User extends BaseEntity {
     private Blog blog;
 
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String email;
     @Column(nullable = false)
@@ -31,6 +40,10 @@ public class User extends BaseEntity {
     @Column(unique = true, nullable = false)
     private String nickname;
 
+    // ETag용 버전 (회원정보 수정 시 증가)
+    @Version
+    private Long version;
+
 
     @PrePersist
     private void prePersist() {
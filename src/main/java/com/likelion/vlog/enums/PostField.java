@@ -0,0 +1,52 @@
+package com.likelion.vlog.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게시글 목록/상세 응답에서 고를 수 있는 필드 (fields=title,author,likeCount)
+ * - 요청하지 않은 필드는 조회(QueryDSL projection)와 직렬화에서 모두 빠짐
+ * - comments는 상세 조회에만 해당
+ */
+public enum PostField {
+    POST_ID, TITLE, CONTENT, AUTHOR, TAGS, COMMENTS, VIEW_COUNT, LIKE_COUNT, CREATED_AT, UPDATED_AT;
+
+    // 응답 필드 이름(camelCase)과 enum 이름(UPPER_SNAKE) 모두 허용
+    @JsonCreator
+    public static PostField from(String value) {
+        if (value == null) return null;
+        String name = value.trim().replaceAll("([a-z])([A-Z])", "$1_$2");
+        return PostField.valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    @JsonValue
+    public String toValue() {
+        String lower = name().toLowerCase(Locale.ROOT);
+        StringBuilder camel = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '_') {
+                camel.append(Character.toUpperCase(lower.charAt(++i)));
+            } else {
+                camel.append(c);
+            }
+        }
+        return camel.toString();
+    }
+
+    /**
+     * 요청한 필드 집합 (요청이 없으면 전체, postId는 항상 포함)
+     */
+    public static Set<PostField> resolve(Collection<PostField> requested) {
+        if (requested == null || requested.isEmpty()) return EnumSet.allOf(PostField.class);
+        EnumSet<PostField> fields = EnumSet.of(POST_ID);
+        requested.stream().filter(Objects::nonNull).forEach(fields::add);
+        return fields;
+    }
+}
@@ -0,0 +1,38 @@
+package com.likelion.vlog.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게시글 상세 조회에 함께 담을 하위 리소스 (include=likeState,comments)
+ * - likeState: 좋아요 수 + 현재 회원의 좋아요 여부 (GET /posts/{postId}/like 와 같은 값)
+ * - comments: 댓글/대댓글 (fields로 댓글을 빼도 포함)
+ */
+public enum PostInclude {
+    LIKE_STATE, COMMENTS;
+
+    // 응답 필드 이름(camelCase)과 enum 이름(UPPER_SNAKE) 모두 허용
+    @JsonCreator
+    public static PostInclude from(String value) {
+        if (value == null) return null;
+        String name = value.trim().replaceAll("([a-z])([A-Z])", "$1_$2");
+        return PostInclude.valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    @JsonValue
+    public String toValue() {
+        return this == LIKE_STATE ? "likeState" : "comments";
+    }
+
+    public static Set<PostInclude> resolve(Collection<PostInclude> requested) {
+        EnumSet<PostInclude> includes = EnumSet.noneOf(PostInclude.class);
+        if (requested != null) requested.stream().filter(Objects::nonNull).forEach(includes::add);
+        return includes;
+    }
+}
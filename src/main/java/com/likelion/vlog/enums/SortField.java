@@ -6,7 +6,9 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Locale;
 
 public enum SortField {
-    VIEW, LIKE, CREATED_AT, UPDATED_AT;
+    VIEW, LIKE, CREATED_AT, UPDATED_AT,
+    // 순서는 TrendingBoard가 결정 (DB 정렬 없음)
+    TRENDING;
 
     @JsonCreator
     public static SortField from(String value) {
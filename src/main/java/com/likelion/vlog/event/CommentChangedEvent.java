@@ -0,0 +1,25 @@
+package com.likelion.vlog.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글/답글 작성/수정/삭제 이벤트
+ * - created: 새로 작성된 경우 true
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentChangedEvent {
+
+    private final Long postId;
+    private final boolean created;
+
+    public static CommentChangedEvent of(Long postId) {
+        return new CommentChangedEvent(postId, false);
+    }
+
+    public static CommentChangedEvent created(Long postId) {
+        return new CommentChangedEvent(postId, true);
+    }
+}
@@ -0,0 +1,23 @@
+package com.likelion.vlog.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 추가/취소 이벤트
+ * - likeCount: 변경 후 게시글의 좋아요 수
+ * - added: 추가면 true, 취소면 false
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LikeChangedEvent {
+
+    private final Long postId;
+    private final Integer likeCount;
+    private final boolean added;
+
+    public static LikeChangedEvent of(Long postId, Integer likeCount, boolean added) {
+        return new LikeChangedEvent(postId, likeCount, added);
+    }
+}
@@ -0,0 +1,38 @@
+package com.likelion.vlog.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 작성/수정/삭제 이벤트
+ * - 커밋 이후(AFTER_COMMIT) 캐시 무효화 등에 사용
+ * - tags: 변경 전/후 태그를 모두 포함 (수정으로 빠진 태그 목록도 무효화 대상)
+ * - currentTags: 변경 후 태그 (삭제면 비어 있음)
+ * - title: 변경 후 제목 (삭제면 null)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostChangedEvent {
+
+    private final Long postId;
+    private final Long blogId;
+    private final Set<String> tags;
+    private final Set<String> currentTags;
+    private final String title;
+    private final boolean deleted;
+
+    public static PostChangedEvent of(Long postId, Long blogId, String title, List<String> beforeTags, List<String> afterTags) {
+        Set<String> tags = new HashSet<>(beforeTags);
+        tags.addAll(afterTags);
+        return new PostChangedEvent(postId, blogId, Set.copyOf(tags), Set.copyOf(afterTags), title, false);
+    }
+
+    public static PostChangedEvent deleted(Long postId, Long blogId, List<String> tags) {
+        return new PostChangedEvent(postId, blogId, Set.copyOf(tags), Set.of(), null, true);
+    }
+}
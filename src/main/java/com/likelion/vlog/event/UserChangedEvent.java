@@ -0,0 +1,35 @@
+package com.likelion.vlog.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 가입/정보 수정/탈퇴 이벤트
+ * - 작성자 정보(닉네임 등)가 들어간 게시글/댓글 캐시 무효화에 사용
+ * - previousNickname: 변경 전 닉네임 (가입이면 null)
+ * - nickname: 변경 후 닉네임 (탈퇴면 null)
+ * - blogTitle: 가입 시 생성된 블로그 이름 (그 외 null)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final Long blogId;
+    private final String previousNickname;
+    private final String nickname;
+    private final String blogTitle;
+
+    public static UserChangedEvent of(Long userId, Long blogId, String previousNickname, String nickname) {
+        return new UserChangedEvent(userId, blogId, previousNickname, nickname, null);
+    }
+
+    public static UserChangedEvent created(Long userId, Long blogId, String nickname, String blogTitle) {
+        return new UserChangedEvent(userId, blogId, null, nickname, blogTitle);
+    }
+
+    public static UserChangedEvent deleted(Long userId, Long blogId, String nickname) {
+        return new UserChangedEvent(userId, blogId, nickname, null, null);
+    }
+}
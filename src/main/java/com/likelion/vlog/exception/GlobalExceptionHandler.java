@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -115,6 +116,18 @@ public class GlobalExceptionHandler {
                 .body(errorResponse(HttpStatus.BAD_REQUEST, message));
     }
 
+    /**
+     * 400 Bad Request - 쿼리 파라미터 타입 변환 실패 (예: include=bogus)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        String message = e.getName() + ": 잘못된 값입니다. (" + e.getValue() + ")";
+
+        log.warn("TypeMismatchException: {}", message);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(errorResponse(HttpStatus.BAD_REQUEST, message));
+    }
+
     /**
      * 500 Internal Server Error - 예상치 못한 예외
      */
@@ -0,0 +1,18 @@
+package com.likelion.vlog.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 한 번 호출에 허용하는 최대 SQL 수
+ * - 초과 시 경고 로그, vlog.sql.budget.strict=true(테스트 프로필)면 요청 실패
+ * - 캐시가 비어 있는 최악의 경우(cold) 기준으로 선언
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,40 @@
+package com.likelion.vlog.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * strict 모드(vlog.sql.budget.strict=true)에서 응답 본문을 쓰기 직전에 @QueryBudget 검사
+ * - 커밋 전이라 초과한 요청은 200 대신 500으로 응답 (필터에서 검사하면 이미 커밋된 뒤)
+ */
+@RestControllerAdvice
+public class QueryBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean strict;
+
+    public QueryBudgetAdvice(@Value("${vlog.sql.budget.strict:false}") boolean strict) {
+        this.strict = strict;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return strict;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.enforceBudget();
+        }
+        return body;
+    }
+}
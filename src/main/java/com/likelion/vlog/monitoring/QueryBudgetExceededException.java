@@ -0,0 +1,11 @@
+package com.likelion.vlog.monitoring;
+
+/**
+ * strict 모드에서 @QueryBudget을 넘은 요청 (500)
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
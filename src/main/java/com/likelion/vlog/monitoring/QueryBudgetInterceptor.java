@@ -0,0 +1,24 @@
+package com.likelion.vlog.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 호출될 컨트롤러 메서드의 @QueryBudget을 현재 요청의 QueryStats에 등록
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null && handler instanceof HandlerMethod method) {
+            QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                stats.declareBudget(method.getBeanType().getSimpleName() + "." + method.getMethod().getName(), budget.value());
+            }
+        }
+        return true;
+    }
+}
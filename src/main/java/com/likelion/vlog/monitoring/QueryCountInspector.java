@@ -0,0 +1,19 @@
+package com.likelion.vlog.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 현재 요청의 QueryStats에 기록
+ * - hibernate.session_factory.statement_inspector 로 등록
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
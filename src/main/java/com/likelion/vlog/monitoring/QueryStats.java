@@ -0,0 +1,119 @@
+package com.likelion.vlog.monitoring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 하나에서 실행된 SQL 통계
+ * - 요청 스레드에 묶어두고(ThreadLocal) Hibernate 훅에서 누적
+ * - 병렬 조회(queryExecutor)는 같은 객체를 작업 스레드에 넘겨서 함께 집계
+ */
+public class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong dbNanos = new AtomicLong();
+    private final Map<String, AtomicInteger> statementsBySql = new ConcurrentHashMap<>();
+
+    private volatile Integer budget;
+    private volatile String handler;
+    private volatile boolean budgetEnforced;
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(QueryStats stats) {
+        if (stats == null) CURRENT.remove();
+        else CURRENT.set(stats);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statements.incrementAndGet();
+        statementsBySql.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    void recordExecution(long nanos) {
+        dbNanos.addAndGet(nanos);
+    }
+
+    void declareBudget(String handler, int budget) {
+        this.handler = handler;
+        this.budget = budget;
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getDbNanos() {
+        return dbNanos.get();
+    }
+
+    public double getDbMillis() {
+        return getDbNanos() / 1_000_000.0;
+    }
+
+    public Integer getBudget() {
+        return budget;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    /**
+     * 예산 초과 메시지, 예산이 없거나 넘지 않았으면 null
+     */
+    public String budgetViolation() {
+        Integer limit = budget;
+        int executed = getStatements();
+        if (limit == null || executed <= limit) return null;
+        return String.format("SQL 예산 초과: %s - %d개 실행 (예산 %d개)", handler, executed, limit);
+    }
+
+    /**
+     * 예산을 넘었으면 예외 (요청당 한 번만 - 실패 응답을 쓰는 중에는 다시 던지지 않음)
+     */
+    public void enforceBudget() {
+        if (budgetEnforced) return;
+        String violation = budgetViolation();
+        if (violation == null) return;
+        budgetEnforced = true;
+        throw new QueryBudgetExceededException(violation);
+    }
+
+    /**
+     * 같은 SQL이 threshold번 이상 실행된 경우 중 가장 많은 것 (N+1 의심), 없으면 null
+     */
+    public Map.Entry<String, Integer> mostRepeated(int threshold) {
+        Map.Entry<String, Integer> worst = null;
+        for (Map.Entry<String, AtomicInteger> entry : statementsBySql.entrySet()) {
+            int count = entry.getValue().get();
+            if (count >= threshold && (worst == null || count > worst.getValue())) {
+                worst = Map.entry(entry.getKey(), count);
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Server-Timing 헤더 값
+     */
+    public String toServerTiming() {
+        return String.format("db;desc=\"%d statements\";dur=%.3f", getStatements(), getDbMillis());
+    }
+}
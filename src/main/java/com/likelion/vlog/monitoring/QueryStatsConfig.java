@@ -0,0 +1,44 @@
+package com.likelion.vlog.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청별 SQL 집계 설정
+ * - Hibernate 훅(StatementInspector, SessionEventListener) 등록
+ * - 필터는 가장 바깥(보안 필터보다 먼저)에서 요청 전체를 감쌈
+ */
+@Configuration
+public class QueryStatsConfig implements WebMvcConfigurer {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.session_factory.statement_inspector", QueryCountInspector.class.getName());
+            properties.put("hibernate.session.events.auto", QueryTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${vlog.sql.budget.strict:false}") boolean strict,
+            @Value("${vlog.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        FilterRegistrationBean<QueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatsFilter(meterRegistry, strict, nPlusOneThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor());
+    }
+}
@@ -0,0 +1,97 @@
+package com.likelion.vlog.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 수/DB 시간 집계
+ * - 요청 시작 시 QueryStats를 스레드에 묶고, 끝나면 예산(@QueryBudget)과 N+1 의심 SQL을 검사
+ * - 본문 없는 응답(304 등)은 여기서 Server-Timing 헤더 추가
+ * - strict 모드의 예산 초과 실패는 본문을 쓰기 전에 QueryBudgetAdvice가 처리, 여기서는 본문 없는 응답만 (커밋 전일 때)
+ * - vlog.sql.statements / vlog.sql.time (uri별), N+1 의심·예산 초과 횟수를 메트릭으로 기록
+ */
+@Slf4j
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean strict;
+    private final int nPlusOneThreshold;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry, boolean strict, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.strict = strict;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        try {
+            chain.doFilter(request, response);
+
+            boolean committed = response.isCommitted();
+            if (!committed && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, stats.toServerTiming());
+            }
+            inspect(request, stats);
+            if (strict && !committed) {
+                stats.enforceBudget();
+            }
+        } finally {
+            QueryStats.clear();
+        }
+    }
+
+    private void inspect(HttpServletRequest request, QueryStats stats) {
+        String uri = uri(request);
+        DistributionSummary.builder("vlog.sql.statements")
+                .description("요청당 SQL 실행 수")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("vlog.sql.time")
+                .description("요청당 JDBC 실행 시간 합계")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> repeated = stats.mostRepeated(nPlusOneThreshold);
+        if (repeated != null) {
+            Counter.builder("vlog.sql.n-plus-one").tag("uri", uri).register(meterRegistry).increment();
+            log.warn("N+1 의심: {} {} - 같은 SQL {}회 실행: {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey());
+        }
+
+        String violation = stats.budgetViolation();
+        if (violation != null) {
+            Counter.builder("vlog.sql.budget.exceeded").tag("uri", uri).register(meterRegistry).increment();
+            log.warn(violation);
+        }
+    }
+
+    /**
+     * 매칭된 핸들러 경로 패턴 (/api/v1/posts/{postId}), 매칭 전 실패한 요청은 UNKNOWN
+     */
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
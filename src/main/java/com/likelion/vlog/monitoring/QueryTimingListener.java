@@ -0,0 +1,42 @@
+package com.likelion.vlog.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * JDBC 실행 시간을 현재 요청의 QueryStats에 누적
+ * - hibernate.session.events.auto 로 등록 (세션마다 새 인스턴스)
+ */
+public class QueryTimingListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+        executeStart = -1;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+        batchStart = -1;
+    }
+
+    private void record(long start) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null && start > 0) {
+            stats.recordExecution(System.nanoTime() - start);
+        }
+    }
+}
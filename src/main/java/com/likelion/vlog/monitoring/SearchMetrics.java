@@ -0,0 +1,34 @@
+package com.likelion.vlog.monitoring;
+
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 목록 검색 조건 분포
+ * - vlog.posts.search{search, tag_mode, sort}: 캐시 hit 여부와 무관하게 요청 단위로 집계
+ * - 검색어/태그가 없으면 해당 태그 값은 none
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchMetrics {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(PostGetRequest request) {
+        boolean hasKeyword = request.getKeyword() != null && !request.getKeyword().isBlank();
+        boolean hasTag = request.getTag() != null && !request.getTag().isEmpty();
+
+        Counter.builder("vlog.posts.search")
+                .description("게시글 목록 검색 요청 수")
+                .tag("search", hasKeyword ? request.getSearch().name() : NONE)
+                .tag("tag_mode", hasTag ? request.getTagMode().name() : NONE)
+                .tag("sort", request.getSort().name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
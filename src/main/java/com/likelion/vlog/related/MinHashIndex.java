@@ -0,0 +1,153 @@
+package com.likelion.vlog.related;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 게시글 특징 집합(태그, 선택적으로 제목 2-gram)의 MinHash + LSH 색인
+ * - 서명: 해시 함수 bands * rows 개 각각의 최솟값 (두 서명의 값이 같을 확률 = Jaccard 유사도)
+ * - LSH: 서명을 bands 개 구간으로 나눠 구간이 통째로 같은 게시글끼리 같은 버킷
+ *   (유사도 s인 두 글이 후보가 될 확률 1 - (1 - s^rows)^bands)
+ * - 조회: 자기 버킷들에서 후보를 최대 maxCandidates개 모아 실제 Jaccard로 정렬 (전체 게시글 수와 무관)
+ * - 동기화는 호출 측(RelatedPostIndex)이 담당
+ */
+final class MinHashIndex {
+
+    private final int bands;
+    private final int rows;
+    private final boolean titleBigrams;
+    private final int[] seeds;
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+
+    MinHashIndex(int bands, int rows, boolean titleBigrams) {
+        this.bands = bands;
+        this.rows = rows;
+        this.titleBigrams = titleBigrams;
+        // 인스턴스/재적재와 무관하게 같은 해시 함수 (고정 시드)
+        this.seeds = new SplittableRandom(0x5EEDL).ints(bands * rows).toArray();
+    }
+
+    void put(Long postId, String title, List<String> tags) {
+        remove(postId);
+        Set<String> features = features(title, tags);
+        Doc doc = new Doc(postId, title, List.copyOf(tags), features, features.isEmpty() ? null : signature(features));
+        docs.put(postId, doc);
+        if (doc.signature == null) return;
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bucketKey(doc.signature, band), key -> new LinkedHashSet<>()).add(postId);
+        }
+    }
+
+    void remove(Long postId) {
+        Doc doc = docs.remove(postId);
+        if (doc == null || doc.signature == null) return;
+        for (int band = 0; band < bands; band++) {
+            long key = bucketKey(doc.signature, band);
+            Set<Long> ids = buckets.get(key);
+            if (ids != null && ids.remove(postId) && ids.isEmpty()) buckets.remove(key);
+        }
+    }
+
+    /**
+     * 유사도 높은 순 최대 limit개 (특징이 하나도 겹치지 않는 후보는 제외)
+     */
+    List<RelatedPost> related(Long postId, int limit, int maxCandidates) {
+        Doc doc = docs.get(postId);
+        if (doc == null || doc.signature == null) return List.of();
+
+        Set<Long> candidates = new LinkedHashSet<>();
+        collect:
+        for (int band = 0; band < bands; band++) {
+            for (Long id : buckets.getOrDefault(bucketKey(doc.signature, band), Set.of())) {
+                if (id.equals(postId)) continue;
+                candidates.add(id);
+                if (candidates.size() >= maxCandidates) break collect;
+            }
+        }
+
+        List<RelatedPost> related = new ArrayList<>();
+        for (Long id : candidates) {
+            Doc other = docs.get(id);
+            double similarity = jaccard(doc.features, other.features);
+            if (similarity > 0) related.add(new RelatedPost(id, other.title, other.tags, similarity));
+        }
+        related.sort(Comparator.comparingDouble(RelatedPost::similarity).reversed()
+                .thenComparing(RelatedPost::postId, Comparator.reverseOrder()));
+        return related.size() <= limit ? related : List.copyOf(related.subList(0, limit));
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    // 태그는 대소문자 무시, 제목은 공백 제거 후 글자 2-gram
+    private Set<String> features(String title, List<String> tags) {
+        Set<String> features = new HashSet<>();
+        for (String tag : tags) {
+            features.add("t:" + tag.trim().toLowerCase(Locale.ROOT));
+        }
+        if (titleBigrams && title != null) {
+            String normalized = title.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+            for (int i = 0; i + 1 < normalized.length(); i++) {
+                features.add("w:" + normalized.substring(i, i + 2));
+            }
+        }
+        return features;
+    }
+
+    private int[] signature(Set<String> features) {
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String feature : features) {
+            int base = feature.hashCode();
+            for (int i = 0; i < seeds.length; i++) {
+                int hash = mix(base ^ seeds[i]);
+                if (hash < signature[i]) signature[i] = hash;
+            }
+        }
+        return signature;
+    }
+
+    // 버킷 키: 상위 32비트 구간 번호, 하위 32비트 구간 값들의 해시
+    private long bucketKey(int[] signature, int band) {
+        int hash = 1;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = 31 * hash + signature[i];
+        }
+        return (long) band << 32 | (hash & 0xFFFFFFFFL);
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (String feature : smaller) {
+            if (larger.contains(feature)) intersection++;
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    // murmur3 finalizer
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private record Doc(Long postId, String title, List<String> tags, Set<String> features, int[] signature) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.likelion.vlog.related;
+
+import java.util.List;
+
+/**
+ * 연관 게시글 (similarity: 특징 집합의 Jaccard 유사도 0~1)
+ */
+public record RelatedPost(Long postId, String title, List<String> tags, double similarity) {
+}
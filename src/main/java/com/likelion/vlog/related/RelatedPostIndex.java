@@ -0,0 +1,91 @@
+package com.likelion.vlog.related;
+
+import com.likelion.vlog.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 연관 게시글 색인 (인스턴스 메모리, 조회 시 DB 접근 없음)
+ * - 게시글 작성/수정/삭제는 커밋 후 이벤트로 바로 반영
+ * - 다른 인스턴스의 변경과 회원 탈퇴로 함께 지워진 게시글은 RelatedPostLoader의 주기적 재적재로 반영
+ */
+@Component
+public class RelatedPostIndex {
+
+    private final int bands;
+    private final int rows;
+    private final boolean titleBigrams;
+    private final int maxCandidates;
+
+    private MinHashIndex index;
+    private List<Consumer<MinHashIndex>> journal;
+
+    public RelatedPostIndex(
+            @Value("${vlog.related.bands:32}") int bands,
+            @Value("${vlog.related.rows:2}") int rows,
+            @Value("${vlog.related.title-bigrams:false}") boolean titleBigrams,
+            @Value("${vlog.related.max-candidates:200}") int maxCandidates) {
+        this.bands = bands;
+        this.rows = rows;
+        this.titleBigrams = titleBigrams;
+        this.maxCandidates = maxCandidates;
+        this.index = new MinHashIndex(bands, rows, titleBigrams);
+    }
+
+    public synchronized List<RelatedPost> related(Long postId, int limit) {
+        return index.related(postId, limit, maxCandidates);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            apply(index -> index.remove(event.getPostId()));
+        } else {
+            List<String> tags = List.copyOf(event.getCurrentTags());
+            apply(index -> index.put(event.getPostId(), event.getTitle(), tags));
+        }
+    }
+
+    /**
+     * 새 색인으로 교체
+     * - 조회/구성은 잠금 밖에서 (연관 게시글 조회를 막지 않도록)
+     * - 조회 시작 이후 들어온 변경은 새 색인에도 다시 적용한 뒤 교체
+     */
+    void reload(Supplier<List<PostFeatures>> loader) {
+        synchronized (this) {
+            journal = new ArrayList<>();
+        }
+        List<PostFeatures> posts;
+        try {
+            posts = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                journal = null;
+            }
+            throw e;
+        }
+
+        MinHashIndex fresh = new MinHashIndex(bands, rows, titleBigrams);
+        posts.forEach(post -> fresh.put(post.postId(), post.title(), post.tags()));
+        synchronized (this) {
+            journal.forEach(change -> change.accept(fresh));
+            journal = null;
+            index = fresh;
+        }
+    }
+
+    private synchronized void apply(Consumer<MinHashIndex> change) {
+        change.accept(index);
+        if (journal != null) journal.add(change);
+    }
+
+    record PostFeatures(Long postId, String title, List<String> tags) {
+    }
+}
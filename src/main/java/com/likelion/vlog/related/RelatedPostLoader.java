@@ -0,0 +1,77 @@
+package com.likelion.vlog.related;
+
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QTag;
+import com.likelion.vlog.entity.QTagMap;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연관 게시글 색인 적재
+ * - 기동 시 전체 적재, 이후 refresh-interval 마다 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedPostLoader {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final RelatedPostIndex relatedPostIndex;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${vlog.related.refresh-interval:30m}",
+            fixedDelayString = "${vlog.related.refresh-interval:30m}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("연관 게시글 색인 적재 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private void reload() {
+        long started = System.nanoTime();
+        relatedPostIndex.reload(() -> readOnlyTransactionTemplate.execute(status -> findPosts()));
+        log.info("연관 게시글 색인 적재: {}ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<RelatedPostIndex.PostFeatures> findPosts() {
+        QTagMap tagMap = QTagMap.tagMap;
+        QTag tag = QTag.tag;
+        Map<Long, List<String>> tagsByPost = new HashMap<>();
+        jpaQueryFactory
+                .select(tagMap.post.id, tag.title)
+                .from(tagMap)
+                .join(tagMap.tag, tag)
+                .fetch()
+                .forEach(row -> tagsByPost.computeIfAbsent(row.get(tagMap.post.id), id -> new ArrayList<>()).add(row.get(tag.title)));
+
+        QPost post = QPost.post;
+        return jpaQueryFactory
+                .select(post.id, post.title)
+                .from(post)
+                .fetch()
+                .stream()
+                .map(row -> new RelatedPostIndex.PostFeatures(row.get(post.id), row.get(post.title),
+                        tagsByPost.getOrDefault(row.get(post.id), List.of())))
+                .toList();
+    }
+}
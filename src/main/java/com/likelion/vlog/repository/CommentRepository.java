@@ -27,10 +27,13 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Object[]> countByPosts(@Param("posts") List<Post> posts);
 
     // 게시글의 댓글과 대댓글을 함께 조회 (N+1 해결)
+    // User.blog(mappedBy 1:1)는 지연 로딩이 안 되므로 작성자의 블로그도 함께 가져옴 (아니면 작성자마다 블로그 조회)
     @Query("SELECT DISTINCT c FROM Comment c " +
-            "LEFT JOIN FETCH c.user " +
+            "LEFT JOIN FETCH c.user u " +
+            "LEFT JOIN FETCH u.blog " +
             "LEFT JOIN FETCH c.children ch " +
-            "LEFT JOIN FETCH ch.user " +
+            "LEFT JOIN FETCH ch.user chu " +
+            "LEFT JOIN FETCH chu.blog " +
             "WHERE c.post = :post AND c.parent IS NULL " +
             "ORDER BY c.createdAt ASC")
     List<Comment> findAllByPostWithChildren(@Param("post") Post post);
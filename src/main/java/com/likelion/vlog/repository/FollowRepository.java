@@ -4,17 +4,29 @@ import com.likelion.vlog.entity.Follow;
 import com.likelion.vlog.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
+    // 상대 회원과 블로그(mappedBy 1:1, 항상 즉시 로딩)를 함께 조회 (N+1 해결)
+    @EntityGraph(attributePaths = {"following", "following.blog"})
     Page<Follow> findByFollower(User follower, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"follower", "follower.blog"})
     Page<Follow> findByFollowing(User following, Pageable pageable);
 
     boolean existsByFollowerAndFollowing(User follower, User following);
 
+    // N+1 해결: 목록의 회원들 중 follower가 팔로우하는 회원 id를 한번에 조회
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower = :follower AND f.following IN :users")
+    Set<Long> findFollowingIdsAmong(@Param("follower") User follower, @Param("users") Collection<User> users);
+
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
                                 
     // User가 팔로우한 모든 관계 삭제
@@ -2,8 +2,6 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.repository.querydsl.custom.PostRepositoryCustom;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,29 +12,47 @@ import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
-    Page<Post> findAllByBlogId(Long blogId, Pageable pageable);
+    // 조회와 함께 버전 증가 (태그/댓글처럼 Post 컬럼이 바뀌지 않는 변경도 ETag에 반영)
+    // UPDATE가 행 잠금을 기다리므로 같은 게시글에 동시에 댓글이 달려도 순서대로 증가
+    // (PESSIMISTIC_FORCE_INCREMENT는 Hibernate가 FOR UPDATE NOWAIT로 실행해 동시 변경이 바로 실패함)
+    default Optional<Post> findWithVersionIncrementById(Long id) {
+        if (incrementVersion(id) == 0) return Optional.empty();
+        return findById(id);
+    }
 
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName")
-    Page<Post> findAllByTagName(@Param("tagName") String tagName, Pageable pageable);
+    // clearAutomatically: 이미 읽어둔 Post가 있어도 findById가 증가한 버전을 다시 읽도록 (이전 버전으로 쓰면 낙관적 락 실패)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.version = p.version + 1 WHERE p.id = :id")
+    int incrementVersion(@Param("id") Long id);
 
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName AND p.blog.id = :blogId")
-    Page<Post> findAllByTagNameAndBlogId(@Param("tagName") String tagName, @Param("blogId") Long blogId, Pageable pageable);
+    // 회원이 댓글을 단 게시글 버전 증가 (닉네임 변경/탈퇴로 댓글 작성자 표시가 바뀌므로 상세/댓글 ETag 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.version = p.version + 1 WHERE p.id IN (SELECT c.post.id FROM Comment c WHERE c.user.id = :userId)")
+    int incrementVersionByCommenterId(@Param("userId") Long userId);
+
+    // 게시글 상세 ETag: 게시글 버전 + 작성자 버전 (둘 다 증가만 하므로 합이 바뀌면 둘 중 하나가 바뀐 것)
+    @Query("SELECT p.version + u.version FROM Post p JOIN p.blog b JOIN b.user u WHERE p.id = :id")
+    Optional<Long> findDetailVersionById(@Param("id") Long id);
+
+    @Query("SELECT p.version FROM Post p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 
     // 좋아요 수 원자적 증가
-    @Modifying
+    // clearAutomatically = true: 영속성 컨텍스트를 자동으로 클리어하여 최신 데이터 조회 보장
+    // flushAutomatically = true: 시퀀스 ID라 save()한 Like INSERT/DELETE가 지연되므로, 클리어 전에 먼저 반영
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE Post p SET p.likeCount = COALESCE(p.likeCount, 0) + 1 WHERE p.id = :id")
     void incrementLikeCount(@Param("id") Long id);
 
     // 좋아요 수 원자적 감소
-    @Modifying
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
     void decrementLikeCount(@Param("id") Long id);
 
-    // 조회수 원자적 증가
-    // clearAutomatically = true: 영속성 컨텍스트를 자동으로 클리어하여 최신 데이터 조회 보장
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.viewCount = COALESCE(p.viewCount, 0) + 1 WHERE p.id = :id")
-    void incrementViewCount(@Param("id") Long id);
+    // 조회수 원자적 증가 (ViewCountBuffer가 모아둔 만큼 한 번에 반영)
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = COALESCE(p.viewCount, 0) + :delta WHERE p.id = :id")
+    void addViewCount(@Param("id") Long id, @Param("delta") long delta);
 
     // User의 Blog에 속한 모든 Post 삭제
     void deleteAllByBlogUserId(Long userId);
@@ -1,12 +1,15 @@
 package com.likelion.vlog.repository;
 
+import com.likelion.vlog.dto.posts.PostFacetGetResponse;
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.TagMap;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TagMapRepository extends JpaRepository<TagMap, Long> {
@@ -22,4 +25,14 @@ public interface TagMapRepository extends JpaRepository<TagMap, Long> {
 
     // User의 Blog에 속한 Post들의 모든 태그 매핑 삭제
     void deleteAllByPostBlogUserId(Long userId);
-}
\ No newline at end of file
+
+    // 게시글들에 달린 태그별 게시글 수 (많은 순, 동률이면 태그 이름 순)
+    @Query("""
+            SELECT new com.likelion.vlog.dto.posts.PostFacetGetResponse$TagCount(t.title, COUNT(tm))
+            FROM TagMap tm JOIN tm.tag t
+            WHERE tm.post.id IN :postIds
+            GROUP BY t.title
+            ORDER BY COUNT(tm) DESC, t.title
+            """)
+    List<PostFacetGetResponse.TagCount> countTagsByPostIds(@Param("postIds") Collection<Long> postIds, Pageable pageable);
+}
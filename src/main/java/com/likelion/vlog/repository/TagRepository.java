@@ -1,13 +1,25 @@
 package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.repository.naturalid.TagRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
 
-public interface TagRepository extends JpaRepository<Tag, Long> {
-
-    Optional<Tag> findByTitle(String title);
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 
     boolean existsByTitle(String title);
+
+    // 카운터가 삭제된 태그만 삭제 (TagUsageRepository.deleteOrphans 다음에 호출)
+    @Modifying
+    @Query("""
+            DELETE FROM Tag t
+            WHERE t.id IN :ids
+              AND NOT EXISTS (SELECT 1 FROM TagUsage u WHERE u.tagId = t.id)
+              AND NOT EXISTS (SELECT 1 FROM TagMap tm WHERE tm.tag = t)
+            """)
+    int deleteOrphans(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,58 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.dto.tags.TagPopularGetResponse;
+import com.likelion.vlog.entity.TagUsage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagUsageRepository extends JpaRepository<TagUsage, Long> {
+
+    // 게시글 수 증감 (게시글 작성/수정/삭제 트랜잭션 안에서 호출)
+    @Modifying
+    @Query("""
+            UPDATE TagUsage u SET u.usageCount = u.usageCount + :delta
+            WHERE u.tagId IN (SELECT t.id FROM Tag t WHERE t.title IN :titles)
+            """)
+    int addUsageCount(@Param("titles") Collection<String> titles, @Param("delta") long delta);
+
+    // 회원 탈퇴: 해당 회원 게시글에 달린 만큼 차감 (tag_maps 삭제 전에 호출)
+    @Modifying
+    @Query("""
+            UPDATE TagUsage u SET u.usageCount = u.usageCount -
+                (SELECT COUNT(tm) FROM TagMap tm WHERE tm.tag.id = u.tagId AND tm.post.blog.user.id = :userId)
+            WHERE u.tagId IN (SELECT tm2.tag.id FROM TagMap tm2 WHERE tm2.post.blog.user.id = :userId)
+            """)
+    int subtractUsageCountByUserId(@Param("userId") Long userId);
+
+    // 인기 태그 (게시글 수 많은 순, 동률이면 최근 생성 순)
+    @Query("""
+            SELECT new com.likelion.vlog.dto.tags.TagPopularGetResponse(t.title, u.usageCount)
+            FROM TagUsage u JOIN u.tag t
+            WHERE u.usageCount > 0
+            ORDER BY u.usageCount DESC, u.tagId DESC
+            """)
+    List<TagPopularGetResponse> findPopular(Pageable pageable);
+
+    // 게시글이 하나도 없는 태그 id (카운터가 어긋나도 tag_maps로 다시 확인)
+    @Query("""
+            SELECT u.tagId FROM TagUsage u
+            WHERE u.usageCount <= 0
+              AND NOT EXISTS (SELECT 1 FROM TagMap tm WHERE tm.tag.id = u.tagId)
+            """)
+    List<Long> findOrphanIds(Pageable pageable);
+
+    // 조회 이후 다시 사용된 태그는 제외하고 카운터 삭제 (작성 트랜잭션이 카운터 행을 잠그므로 커밋 후 값으로 판단)
+    @Modifying
+    @Query("""
+            DELETE FROM TagUsage u
+            WHERE u.tagId IN :ids AND u.usageCount <= 0
+              AND NOT EXISTS (SELECT 1 FROM TagMap tm WHERE tm.tag.id = u.tagId)
+            """)
+    int deleteOrphans(@Param("ids") Collection<Long> ids);
+}
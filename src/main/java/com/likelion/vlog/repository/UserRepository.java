@@ -1,12 +1,10 @@
 package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.User;
+import com.likelion.vlog.repository.naturalid.UserRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,9 @@
+package com.likelion.vlog.repository.naturalid;
+
+import com.likelion.vlog.entity.Tag;
+
+import java.util.Optional;
+
+public interface TagRepositoryCustom {
+    Optional<Tag> findByTitle(String title);
+}
@@ -0,0 +1,26 @@
+package com.likelion.vlog.repository.naturalid;
+
+import com.likelion.vlog.entity.Tag;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * 태그 이름(@NaturalId) 기반 조회
+ * - 2차 캐시(tags.title → tags) 적중 시 SQL 없이 반환
+ */
+@RequiredArgsConstructor
+public class TagRepositoryImpl implements TagRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Tag> findByTitle(String title) {
+        if (title == null) return Optional.empty();
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Tag.class)
+                .loadOptional(title);
+    }
+}
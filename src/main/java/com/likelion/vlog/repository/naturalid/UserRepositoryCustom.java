@@ -0,0 +1,9 @@
+package com.likelion.vlog.repository.naturalid;
+
+import com.likelion.vlog.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,27 @@
+package com.likelion.vlog.repository.naturalid;
+
+import com.likelion.vlog.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * 이메일(@NaturalId) 기반 사용자 조회
+ * - JPQL 대신 natural-id API를 사용해야 2차 캐시(users.email → users)를 탄다
+ * - 캐시 적중 시 SQL 없이 영속성 컨텍스트/2차 캐시에서 바로 반환
+ */
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null) return Optional.empty();
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
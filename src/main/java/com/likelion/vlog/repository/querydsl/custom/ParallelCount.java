@@ -0,0 +1,76 @@
+package com.likelion.vlog.repository.querydsl.custom;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * 본문 조회와 병렬로 실행하는 count 쿼리
+ * - 먼저 실행권을 잡은 쪽(Executor 스레드 / 호출 스레드)이 쿼리를 실행
+ * - 아직 시작 전이면 cancel()로 건너뛰거나, get()에서 호출 스레드가 직접 실행
+ * - Executor 스레드는 query 안에서 실제 커넥션을 얻은 뒤에 실행권을 확인해야 함 (Lazy 프록시면 먼저 획득)
+ *   (커넥션 대기 중인 작업을 호출 스레드가 커넥션을 쥔 채 기다리면 풀 고갈 시 교착)
+ */
+final class ParallelCount {
+
+    private final Function<BooleanSupplier, Long> query;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+    private ParallelCount(Function<BooleanSupplier, Long> query) {
+        this.query = query;
+    }
+
+    /**
+     * @param query 실행권 확인 함수를 받아 count를 반환 (확인 결과가 false면 쿼리 없이 null 반환)
+     */
+    static ParallelCount submit(Function<BooleanSupplier, Long> query, Executor executor) {
+        ParallelCount count = new ParallelCount(query);
+        try {
+            executor.execute(count::runAsync);
+        } catch (RejectedExecutionException e) {
+            // 큐 포화: get() 호출 시 호출 스레드에서 실행
+        }
+        return count;
+    }
+
+    private void runAsync() {
+        if (claimed.get()) return;
+        boolean[] won = new boolean[1];
+        try {
+            Long value = query.apply(() -> won[0] = claimed.compareAndSet(false, true));
+            if (won[0]) result.complete(value);
+        } catch (Throwable t) {
+            // 실행권을 잡기 전 실패(커넥션 획득 실패 등)는 get()에서 호출 스레드가 직접 실행
+            if (won[0]) result.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * 결과가 필요 없을 때 호출 (이미 실행 중이면 결과만 버림)
+     */
+    void cancel() {
+        claimed.set(true);
+    }
+
+    long get() {
+        if (claimed.compareAndSet(false, true)) {
+            return nullToZero(query.apply(() -> true));
+        }
+        try {
+            return nullToZero(result.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -1,9 +1,47 @@
 package com.likelion.vlog.repository.querydsl.custom;
 
 import com.likelion.vlog.dto.posts.PostGetRequest;
-import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.dto.posts.PostGetResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.enums.PostField;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 public interface PostRepositoryCustom {
-    Page<Post> search(PostGetRequest request);
+
+    /**
+     * 검색 결과 게시글 id 페이지 (응답 필드는 findListItems로 필요한 것만 조회)
+     */
+    Page<Long> search(PostGetRequest request);
+
+    /**
+     * 순서가 정해진 후보 id 중 검색 조건에 맞는 게시글 id를 그 순서대로 페이징
+     * - 트렌딩처럼 DB 밖에서 순위를 매기는 정렬용 (후보는 최대 K개)
+     */
+    Page<Long> searchAmong(List<Long> rankedIds, PostGetRequest request);
+
+    /**
+     * 목록 항목 (요청한 필드의 컬럼/연관만 projection으로 조회, ids 순서 유지)
+     */
+    List<PostListGetResponse> findListItems(List<Long> ids, Set<PostField> fields);
+
+    /**
+     * 상세 응답 중 게시글 컬럼/작성자/태그 (요청한 필드만 조회, 댓글은 제외)
+     */
+    Optional<PostGetResponse> findDetail(Long postId, Set<PostField> fields);
+
+    /**
+     * 검색 조건에 맞는 최신 게시글 id (최대 limit건, 태그 facet 집계용)
+     */
+    List<Long> findLatestIds(PostGetRequest request, int limit);
+
+    /**
+     * 게시글별 태그 이름 (tag_maps JOIN tags 한 번의 IN 조회, 태그가 없는 게시글은 빠짐)
+     */
+    Map<Long, List<String>> findTagNames(Collection<Long> postIds);
 }
@@ -1,53 +1,332 @@
 package com.likelion.vlog.repository.querydsl.custom;
 
+import com.likelion.vlog.dto.posts.AuthorResponse;
 import com.likelion.vlog.dto.posts.PostGetRequest;
-import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.dto.posts.PostGetResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.QBlog;
 import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QTag;
+import com.likelion.vlog.entity.QTagMap;
+import com.likelion.vlog.entity.QUser;
+import com.likelion.vlog.enums.PostField;
+import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.repository.querydsl.expresion.PostExpression;
+import com.likelion.vlog.search.HangulSearchIndex;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-@RequiredArgsConstructor
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Executor queryExecutor;
+    private final HangulSearchIndex hangulSearchIndex;
+
+    public PostRepositoryImpl(JPAQueryFactory jpaQueryFactory,
+                              EntityManager entityManager,
+                              @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate,
+                              @Qualifier("queryExecutor") Executor queryExecutor,
+                              HangulSearchIndex hangulSearchIndex) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.entityManager = entityManager;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.queryExecutor = queryExecutor;
+        this.hangulSearchIndex = hangulSearchIndex;
+    }
 
     @Override
-    public Page<Post> search(PostGetRequest request) {
-        QPost post = QPost.post;
+    public Page<Long> search(PostGetRequest request) {
+        int page = request.getPage();
+        int size = request.getSize();
+        long offset = (long) page * size;
+        Predicate where = where(request);
+
+        // 총 조회건수: 본문 조회와 병렬 실행 (별도 스레드/커넥션의 읽기 전용 트랜잭션)
+        ParallelCount count = request.isWithTotal()
+                ? ParallelCount.submit(claim -> readOnlyTransactionTemplate.execute(status -> {
+                    acquireConnection();
+                    return claim.getAsBoolean() ? count(where) : null;
+                }), queryExecutor)
+                : null;
+
+        //결과 (다음 페이지 존재 여부 확인을 위해 1건 더 조회)
+        List<Long> content;
+        try {
+            content = fetchPage(request, where, offset, size + 1L);
+        } catch (RuntimeException e) {
+            if (count != null) count.cancel();
+            throw e;
+        }
 
+        boolean hasNext = content.size() > size;
+        if (hasNext) content = content.subList(0, size);
+
+        long total;
+        if (!hasNext && (offset == 0 || !content.isEmpty())) {
+            // 마지막 페이지면 총 건수가 확정되므로 count 생략
+            if (count != null) count.cancel();
+            total = offset + content.size();
+        } else if (count != null) {
+            total = count.get();
+        } else {
+            // withTotal=false: 정확한 총 건수 대신 "다음 페이지 있음"만 보장
+            total = hasNext ? offset + size + 1 : offset;
+        }
+
+        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    }
+
+    /**
+     * 현재 트랜잭션의 실제 커넥션을 풀에서 획득
+     * - Replica 라우팅이 켜져 있으면 커넥션이 LazyConnectionDataSourceProxy라서 첫 쿼리 때까지 풀에서 꺼내지 않음
+     */
+    private void acquireConnection() {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            if (connection instanceof ConnectionProxy proxy) proxy.getTargetConnection();
+        });
+    }
+
+    @Override
+    public Page<Long> searchAmong(List<Long> rankedIds, PostGetRequest request) {
         int page = request.getPage();
         int size = request.getSize();
+        if (rankedIds.isEmpty()) return new PageImpl<>(List.of(), PageRequest.of(page, size), 0);
+
+        // 검색 조건 적용 + 삭제된 글 제외 (PK IN 이라 정렬 없이 id만 조회)
+        QPost post = QPost.post;
+        Set<Long> matched = new HashSet<>(jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.id.in(rankedIds), where(request))
+                .fetch());
+        List<Long> ids = rankedIds.stream().filter(matched::contains).toList();
+
+        int from = (int) Math.min((long) page * size, ids.size());
+        int to = Math.min(from + size, ids.size());
+        return new PageImpl<>(ids.subList(from, to), PageRequest.of(page, size), ids.size());
+    }
+
+    @Override
+    public List<Long> findLatestIds(PostGetRequest request, int limit) {
+        QPost post = QPost.post;
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(where(request))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, List<String>> findTagNames(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+
+        QTagMap tagMap = QTagMap.tagMap;
+        QTag tag = QTag.tag;
+        Map<Long, List<String>> tags = new HashMap<>();
+        jpaQueryFactory
+                .select(tagMap.post.id, tag.title)
+                .from(tagMap)
+                .join(tagMap.tag, tag)
+                .where(tagMap.post.id.in(postIds))
+                .orderBy(tagMap.id.asc())
+                .fetch()
+                .forEach(row -> tags.computeIfAbsent(row.get(tagMap.post.id), id -> new ArrayList<>()).add(row.get(tag.title)));
+        return tags;
+    }
 
-        //검색
-        var query = jpaQueryFactory
-                .selectFrom(post)
-                .distinct()
-                .where(post.search(request));
+    /**
+     * 지연 조인(ids-first) 페이지 조회
+     * - 정렬 키와 post_id만 offset/limit 조회 (인덱스만으로 처리, 넓은 행을 읽고 버리지 않음)
+     * - 응답 컬럼은 findListItems에서 해당 id들만 조회
+     */
+    private List<Long> fetchPage(PostGetRequest request, Predicate where, long offset, long limit) {
+        QPost post = QPost.post;
 
-        //정렬
+        //정렬 (동순위는 post_id를 같은 방향으로 정렬해야 (정렬키, post_id) 인덱스를 그대로 탐색)
         OrderSpecifier<?> order = post.sort(request);
-        query.orderBy(order, post.id.desc());
+        OrderSpecifier<Long> tieBreak = order.isAscending() ? post.id.asc() : post.id.desc();
 
-        //결과
-        List<Post> content = query
-                .offset((long) page * size)
-                .limit(size)
+        //검색 (태그 조건이 semi-join이라 행이 중복되지 않으므로 DISTINCT 불필요)
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(where)
+                .orderBy(order, tieBreak)
+                .offset(offset)
+                .limit(limit)
                 .fetch();
+    }
+
+    @Override
+    public List<PostListGetResponse> findListItems(List<Long> ids, Set<PostField> fields) {
+        if (ids.isEmpty()) return List.of();
+
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+        Map<Long, Tuple> rowById = selectColumns(fields, post.id.in(ids)).stream()
+                .collect(Collectors.toMap(row -> row.get(post.id), Function.identity()));
+        Map<Long, List<String>> tags = fields.contains(PostField.TAGS) ? findTagNames(ids) : null;
+
+        return ids.stream()
+                .map(rowById::get)
+                .filter(Objects::nonNull)
+                .map(row -> PostListGetResponse.builder()
+                        .postId(row.get(post.id))
+                        .title(row.get(post.title))
+                        .content(row.get(post.content))
+                        .viewCount(row.get(post.viewCount))
+                        .likeCount(row.get(post.likeCount))
+                        .author(author(row, user))
+                        .tags(tags == null ? null : tags.getOrDefault(row.get(post.id), List.of()))
+                        .createdAt(row.get(post.createdAt))
+                        .updatedAt(row.get(post.updatedAt))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public Optional<PostGetResponse> findDetail(Long postId, Set<PostField> fields) {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+        List<Tuple> rows = selectColumns(fields, post.id.eq(postId));
+        if (rows.isEmpty()) return Optional.empty();
+
+        Tuple row = rows.get(0);
+        List<String> tags = fields.contains(PostField.TAGS)
+                ? findTagNames(List.of(postId)).getOrDefault(postId, List.of())
+                : null;
+        return Optional.of(PostGetResponse.builder()
+                .postId(row.get(post.id))
+                .title(row.get(post.title))
+                .content(row.get(post.content))
+                .author(author(row, user))
+                .tags(tags)
+                .viewCount(row.get(post.viewCount))
+                .likeCount(row.get(post.likeCount))
+                .createdAt(row.get(post.createdAt))
+                .updatedAt(row.get(post.updatedAt))
+                .build());
+    }
+
+    /**
+     * 요청한 필드의 컬럼만 select (작성자를 요청하지 않으면 blogs/users 조인도 생략)
+     * - select 하지 않은 컬럼은 Tuple.get()이 null을 반환하므로 응답에서 빠짐
+     */
+    private List<Tuple> selectColumns(Set<PostField> fields, Predicate where) {
+        QPost post = QPost.post;
+        QBlog blog = QBlog.blog;
+        QUser user = QUser.user;
 
-        // 페이징을 위해 총 조회건수
-        Long total = jpaQueryFactory
-                .select(post.id.countDistinct())
+        List<Expression<?>> columns = new ArrayList<>();
+        columns.add(post.id);
+        if (fields.contains(PostField.TITLE)) columns.add(post.title);
+        if (fields.contains(PostField.CONTENT)) columns.add(post.content);
+        if (fields.contains(PostField.VIEW_COUNT)) columns.add(post.viewCount);
+        if (fields.contains(PostField.LIKE_COUNT)) columns.add(post.likeCount);
+        if (fields.contains(PostField.CREATED_AT)) columns.add(post.createdAt);
+        if (fields.contains(PostField.UPDATED_AT)) columns.add(post.updatedAt);
+
+        JPAQuery<Tuple> query;
+        if (fields.contains(PostField.AUTHOR)) {
+            columns.add(user.id);
+            columns.add(user.nickname);
+            query = jpaQueryFactory
+                    .select(columns.toArray(Expression[]::new))
+                    .from(post)
+                    .join(post.blog, blog)
+                    .join(blog.user, user);
+        } else {
+            query = jpaQueryFactory
+                    .select(columns.toArray(Expression[]::new))
+                    .from(post);
+        }
+        return query.where(where).fetch();
+    }
+
+    private static AuthorResponse author(Tuple row, QUser user) {
+        Long userId = row.get(user.id);
+        if (userId == null) return null;
+        return AuthorResponse.builder()
+                .userId(userId)
+                .nickname(row.get(user.nickname))
+                .build();
+    }
+
+    private Long count(Predicate where) {
+        QPost post = QPost.post;
+        return jpaQueryFactory
+                .select(post.count())
                 .from(post)
-                .where(post.search(request))
+                .where(where)
                 .fetchOne();
+    }
 
-        total = total == null ? 0L : total;
+    /**
+     * 검색 조건
+     * - 초성/자모 검색어는 메모리 색인에서 찾은 id 목록으로 대체
+     * - 태그는 이름을 id로 먼저 바꿔 tag_maps만 semi-join
+     */
+    private Predicate where(PostGetRequest request) {
+        QPost post = QPost.post;
+        Predicate keywordFilter = hangulSearchIndex.match(request.getSearch(), request.getKeyword())
+                .map(ids -> post.keywordIn(request.getSearch(), ids))
+                .orElseGet(() -> post.keyword(request));
+        return post.search(request, keywordFilter, tagFilter(request));
+    }
 
-        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    private Predicate tagFilter(PostGetRequest request) {
+        List<String> titles = PostExpression.sanitizeTags(request.getTag());
+        if (titles.isEmpty()) return null;
+
+        QPost post = QPost.post;
+        QTag tag = QTag.tag;
+        List<Tuple> found = jpaQueryFactory
+                .select(tag.id, tag.title)
+                .from(tag)
+                .where(tag.title.in(titles))
+                .fetch();
+
+        // AND는 없는 태그가 하나라도 있으면 결과 없음 (태그 이름은 대소문자 무시, MySQL 기본 collation)
+        if (request.getTagMode() == TagMode.AND) {
+            Set<String> foundTitles = found.stream()
+                    .map(row -> row.get(tag.title).toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            boolean allFound = titles.stream().allMatch(title -> foundTitles.contains(title.toLowerCase(Locale.ROOT)));
+            if (!allFound) return Expressions.FALSE.isTrue();
+        }
+
+        List<Long> tagIds = found.stream().map(row -> row.get(tag.id)).toList();
+        return post.tagIdsIn(request.getTagMode(), tagIds);
     }
-}
\ No newline at end of file
+}
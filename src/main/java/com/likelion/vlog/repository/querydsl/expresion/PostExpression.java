@@ -16,6 +16,7 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 
 import java.util.List;
 import java.util.Objects;
@@ -23,8 +24,8 @@ import java.util.Objects;
 
 public class PostExpression {
 
-    //태그리스트 전처리
-    private static List<String> sanitizeTags(List<String> tags) {
+    //태그리스트 전처리 (태그 id 조회 전에 PostRepositoryImpl에서도 사용)
+    public static List<String> sanitizeTags(List<String> tags) {
         if (tags == null) return List.of();
         return tags.stream()
                 .filter(Objects::nonNull)
@@ -38,8 +39,7 @@ public class PostExpression {
      // MySQL8: 공백무시 + 대소문자 무시
     private static BooleanExpression whitespaceIgnoreCase(StringExpression field, String keyword) {
         if (keyword == null || keyword.isBlank()) return null;
-        // JAVA 공백 제거
-        String normalized = keyword.trim().replaceAll("\\s+", "");
+        String normalized = normalizeKeyword(keyword);
         // 문자열 반환 강제(CONCAT) + 공백클래스([[:space:]])
         StringExpression normalizedField = Expressions.stringTemplate(
                 "CONCAT('', REGEXP_REPLACE({0}, '[[:space:]]+', ''))",
@@ -48,53 +48,49 @@ public class PostExpression {
         return normalizedField.containsIgnoreCase(normalized);
     }
 
-     //tags 목록에 있는 "모든 태그"를 포함하는 게시물만 통과 (더 많아도 OK)
-    @QueryDelegate(Post.class)
-    public static Predicate hasAllTags(QPost post, List<String> tags) {
-        List<String> sanitized = sanitizeTags(tags);
-        if (sanitized.isEmpty()) return null;
-
-        QTagMap tagMap = QTagMap.tagMap;
-        QTag tag = QTag.tag;
-
-        var subQuery = JPAExpressions
-                .select(tagMap.post.id)
-                .from(tagMap)
-                .join(tagMap.tag, tag)
-                .where(tag.title.in(sanitized))
-                .groupBy(tagMap.post.id)
-                .having(tag.title.countDistinct().eq((long) sanitized.size()));
-
-        return post.id.in(subQuery);
+    // JAVA 공백 제거
+    static String normalizeKeyword(String keyword) {
+        return keyword.trim().replaceAll("\\s+", "");
     }
 
-     //게시물의 태그 중 하나라도 tags 목록에 포함되면 통과
+    /**
+     * 태그 조건: 미리 조회한 태그 id로 tag_maps(tag_id, post_id) 인덱스만 semi-join (tags 조인/DISTINCT 없음)
+     * - OR: 하나라도 달린 글, AND: 모두 달린 글 (태그마다 IN), NAND: 하나도 달리지 않은 글
+     * - 없는 태그는 tagIds에서 빠져 있음 (OR/AND에서 하나도 없으면 결과 없음)
+     */
     @QueryDelegate(Post.class)
-    public static Predicate oneOfTags(QPost post, List<String> tags) {
-        List<String> sanitized = sanitizeTags(tags);
-        if (sanitized.isEmpty()) return null;
+    public static Predicate tagIdsIn(QPost post, TagMode tagMode, List<Long> tagIds) {
+        if (tagIds.isEmpty()) return tagMode == TagMode.NAND ? null : Expressions.FALSE.isTrue();
 
-        return post.tagMapList.any().tag.title.in(sanitized);
+        QTagMap tagMap = QTagMap.tagMap;
+        return switch (tagMode) {
+            case OR -> post.id.in(postIdsTaggedWith(tagMap.tag.id.in(tagIds)));
+            case AND -> {
+                BooleanBuilder builder = new BooleanBuilder();
+                tagIds.forEach(tagId -> builder.and(post.id.in(postIdsTaggedWith(tagMap.tag.id.eq(tagId)))));
+                yield builder;
+            }
+            case NAND -> post.id.notIn(postIdsTaggedWith(tagMap.tag.id.in(tagIds)));
+        };
     }
 
-
-    //게시물의 태그 중 하나라도 tags 목록에 포함되면 불통
-    @QueryDelegate(Post.class)
-    public static Predicate hasNoting(QPost post, List<String> tags){
-        List<String> sanitized = sanitizeTags(tags);
-        if (sanitized.isEmpty()) return null;
-        return post.tagMapList.any().tag.title.in(sanitized).not();
+    private static JPQLQuery<Long> postIdsTaggedWith(Predicate tagCondition) {
+        QTagMap tagMap = QTagMap.tagMap;
+        return JPAExpressions
+                .select(tagMap.post.id)
+                .from(tagMap)
+                .where(tagCondition);
     }
 
-
+    /**
+     * 블로그 + 키워드 + 태그 조건
+     * - 키워드: keyword() 또는 초성/자모 검색어면 HangulSearchIndex가 찾은 id 목록(keywordIn)
+     * - 태그: tagIdsIn()
+     */
     @QueryDelegate(Post.class)
-    public static Predicate search(QPost post, PostGetRequest request) {
+    public static Predicate search(QPost post, PostGetRequest request, Predicate keywordFilter, Predicate tagFilter) {
 
         Long blogId = request.getBlogId();
-        String keyword = request.getKeyword();
-        List<String> tags = request.getTag();
-        SearchFiled search = request.getSearch();
-        TagMode tagMode = request.getTagMode();
 
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -104,26 +100,37 @@ public class PostExpression {
         }
 
         //키워드필터
-        if (keyword != null && !keyword.isBlank()) {
-            switch (search) {
-                case BLOG -> builder.and(whitespaceIgnoreCase(post.blog.title, keyword));
-                case NICKNAME -> builder.and(whitespaceIgnoreCase(post.blog.user.nickname, keyword));
-                case TITLE -> builder.and(whitespaceIgnoreCase(post.title, keyword));
-            }
-        }
+        builder.and(keywordFilter);
 
         //태그필터
-        if (tags!=null && !tags.isEmpty()) {
-            switch (tagMode) {
-                case AND -> builder.and(post.hasAllTags(tags));
-                case OR -> builder.and(post.oneOfTags(tags));
-                case NAND ->  builder.and(post.hasNoting(tags));
-            }
-        }
+        builder.and(tagFilter);
 
         return builder;
     }
 
+    //키워드필터 (검색 필드별 공백/대소문자 무시 부분 일치)
+    @QueryDelegate(Post.class)
+    public static Predicate keyword(QPost post, PostGetRequest request) {
+        String keyword = request.getKeyword();
+        if (keyword == null || keyword.isBlank()) return null;
+        return switch (request.getSearch()) {
+            case BLOG -> whitespaceIgnoreCase(post.blog.title, keyword);
+            case NICKNAME -> whitespaceIgnoreCase(post.blog.user.nickname, keyword);
+            case TITLE -> whitespaceIgnoreCase(post.title, keyword);
+        };
+    }
+
+    //검색 필드별 id 목록 조건 (TITLE: post_id, BLOG: blog_id, NICKNAME: user_id)
+    @QueryDelegate(Post.class)
+    public static Predicate keywordIn(QPost post, SearchFiled search, List<Long> ids) {
+        if (ids.isEmpty()) return Expressions.FALSE.isTrue();
+        return switch (search) {
+            case BLOG -> post.blog.id.in(ids);
+            case NICKNAME -> post.blog.user.id.in(ids);
+            case TITLE -> post.id.in(ids);
+        };
+    }
+
 
     @QueryDelegate(Post.class)
     public static OrderSpecifier<?> sort(QPost post, PostGetRequest request) {
@@ -135,6 +142,8 @@ public class PostExpression {
             case CREATED_AT -> asc ? post.createdAt.asc() : post.createdAt.desc();
             case UPDATED_AT -> asc ? post.updatedAt.asc() : post.updatedAt.desc();
             case LIKE -> asc ? post.likeCount.asc() : post.likeCount.desc();
+            // 트렌딩 순서는 PostRepositoryCustom.searchAmong 에서 후보 id 순서로 적용 (여기서는 최신순)
+            case TRENDING -> post.createdAt.desc();
         };
     }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.likelion.vlog.search;
+
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.event.PostChangedEvent;
+import com.likelion.vlog.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 초성/자모 검색 인덱스 (인스턴스 메모리)
+ * - 게시글 제목, 블로그 이름, 닉네임을 각각 NgramIndex로 색인
+ * - 따로 입력된 자모(ㄱ~ㅣ)가 들어간 검색어만 처리하고, 완성된 글자만 있는 검색어는 기존 DB 검색 사용
+ * - 게시글 작성/수정/삭제, 회원가입/닉네임 변경/탈퇴는 커밋 후 이벤트로 바로 반영
+ * - 다른 인스턴스의 변경과 회원 탈퇴로 함께 지워진 게시글은 HangulSearchLoader의 주기적 재적재로 반영
+ */
+@Component
+public class HangulSearchIndex {
+
+    private final Slot posts = new Slot();
+    private final Slot blogs = new Slot();
+    private final Slot users = new Slot();
+    private final int maxMatches;
+
+    public HangulSearchIndex(@Value("${vlog.search.hangul.max-matches:1000}") int maxMatches) {
+        this.maxMatches = maxMatches;
+    }
+
+    /**
+     * 검색어와 일치하는 id (TITLE: post_id, BLOG: blog_id, NICKNAME: user_id)
+     * - 자모가 없는 검색어면 empty (DB 검색 사용)
+     * - 최대 max-matches개, 넘으면 최근(큰 id) 것만
+     */
+    public Optional<List<Long>> match(SearchFiled field, String keyword) {
+        if (!HangulText.hasJamo(keyword)) return Optional.empty();
+        Slot slot = switch (field) {
+            case TITLE -> posts;
+            case BLOG -> blogs;
+            case NICKNAME -> users;
+        };
+        return Optional.of(slot.search(keyword, maxMatches));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            posts.apply(index -> index.remove(event.getPostId()));
+        } else {
+            posts.apply(index -> index.put(event.getPostId(), event.getTitle()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getNickname() == null) {
+            users.apply(index -> index.remove(event.getUserId()));
+            if (event.getBlogId() != null) blogs.apply(index -> index.remove(event.getBlogId()));
+            return;
+        }
+        users.apply(index -> index.put(event.getUserId(), event.getNickname()));
+        if (event.getBlogTitle() != null) blogs.apply(index -> index.put(event.getBlogId(), event.getBlogTitle()));
+    }
+
+    void reloadPosts(Supplier<Map<Long, String>> loader) {
+        posts.reload(loader);
+    }
+
+    void reloadBlogs(Supplier<Map<Long, String>> loader) {
+        blogs.reload(loader);
+    }
+
+    void reloadUsers(Supplier<Map<Long, String>> loader) {
+        users.reload(loader);
+    }
+
+    /**
+     * 색인 하나와 재적재 중 변경 기록
+     */
+    private static final class Slot {
+
+        private NgramIndex index = new NgramIndex();
+        private List<Consumer<NgramIndex>> journal;
+
+        synchronized List<Long> search(String keyword, int limit) {
+            return index.search(keyword, limit);
+        }
+
+        synchronized void apply(Consumer<NgramIndex> change) {
+            change.accept(index);
+            if (journal != null) journal.add(change);
+        }
+
+        /**
+         * 새 색인으로 교체
+         * - 조회/구성은 잠금 밖에서 (검색을 막지 않도록)
+         * - 조회 시작 이후 들어온 변경은 새 색인에도 다시 적용한 뒤 교체
+         */
+        void reload(Supplier<Map<Long, String>> loader) {
+            synchronized (this) {
+                journal = new ArrayList<>();
+            }
+            Map<Long, String> texts;
+            try {
+                texts = loader.get();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    journal = null;
+                }
+                throw e;
+            }
+
+            NgramIndex fresh = new NgramIndex();
+            texts.forEach(fresh::put);
+            synchronized (this) {
+                journal.forEach(change -> change.accept(fresh));
+                journal = null;
+                index = fresh;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.likelion.vlog.search;
+
+import com.likelion.vlog.entity.QBlog;
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QUser;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 초성/자모 검색 인덱스 적재
+ * - 기동 시 전체 적재, 이후 refresh-interval 마다 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HangulSearchLoader {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final HangulSearchIndex hangulSearchIndex;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${vlog.search.hangul.refresh-interval:30m}",
+            fixedDelayString = "${vlog.search.hangul.refresh-interval:30m}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("초성 검색 인덱스 적재 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private void reload() {
+        long started = System.nanoTime();
+        QPost post = QPost.post;
+        QBlog blog = QBlog.blog;
+        QUser user = QUser.user;
+        hangulSearchIndex.reloadPosts(() -> findTexts(post, post.id, post.title));
+        hangulSearchIndex.reloadBlogs(() -> findTexts(blog, blog.id, blog.title));
+        hangulSearchIndex.reloadUsers(() -> findTexts(user, user.id, user.nickname));
+        log.info("초성 검색 인덱스 적재: {}ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private Map<Long, String> findTexts(EntityPath<?> entity, NumberPath<Long> id, StringPath text) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            Map<Long, String> texts = new HashMap<>();
+            for (Tuple row : jpaQueryFactory.select(id, text).from(entity).fetch()) {
+                texts.put(row.get(id), row.get(text));
+            }
+            return texts;
+        });
+    }
+}
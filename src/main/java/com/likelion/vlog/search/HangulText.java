@@ -0,0 +1,105 @@
+package com.likelion.vlog.search;
+
+import java.util.Map;
+
+/**
+ * 한글 검색용 정규화
+ * - jamo: 음절을 초성/중성/종성 자모로 분해 (겹모음/겹받침도 기본 자모로, 예: "괜찮" -> ㄱㅗㅐㄴㅊㅏㄴㅎ)
+ *   입력 중인 글자("철ㅅ", "처")도 완성된 글자("철수")의 부분 문자열이 됨
+ * - choseong: 음절을 초성만 남김 (예: "철수 blog" -> ㅊㅅblog)
+ * - 공통: 공백 제거, 소문자 (게시글 검색의 whitespaceIgnoreCase와 같은 기준)
+ */
+public final class HangulText {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 따로 입력된 겹자모도 기본 자모로
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"));
+
+    private HangulText() {
+    }
+
+    public static String jamo(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                sb.append(CHOSEONG.charAt(offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)))
+                        .append(JUNGSEONG[offset / JONGSEONG_COUNT % JUNGSEONG_COUNT])
+                        .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else if (COMPOUND_JAMO.containsKey(c)) {
+                sb.append(COMPOUND_JAMO.get(c));
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String choseong(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (isSyllable(c)) {
+                sb.append(CHOSEONG.charAt((c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 따로 입력된 자모(ㄱ~ㅣ)가 있는지 (완성된 글자만 있으면 기존 DB 검색으로 충분)
+     */
+    public static boolean hasJamo(String text) {
+        if (text == null) return false;
+        for (int i = 0; i < text.length(); i++) {
+            if (isJamo(text.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 초성 검색어인지 (공백을 뺀 모든 글자가 자음)
+     */
+    public static boolean isChoseongQuery(String text) {
+        boolean any = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (CHOSEONG.indexOf(c) < 0) return false;
+            any = true;
+        }
+        return any;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isJamo(char c) {
+        return c >= 0x3131 && c <= 0x3163;
+    }
+}
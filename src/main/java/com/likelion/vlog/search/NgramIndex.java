@@ -0,0 +1,107 @@
+package com.likelion.vlog.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자모/초성 n-gram 역색인 (id -> 문자열)
+ * - 문자열마다 자모 분해형과 초성형을 따로 색인 (1-gram + 2-gram)
+ * - 검색: 검색어의 n-gram 목록 중 가장 짧은 목록만 훑으며 나머지 목록 포함 여부 + 실제 부분 문자열 여부 확인
+ * - 동기화는 호출 측(HangulSearchIndex)이 담당
+ */
+final class NgramIndex {
+
+    private final Field jamo = new Field();
+    private final Field choseong = new Field();
+
+    void put(Long id, String text) {
+        remove(id);
+        jamo.put(id, HangulText.jamo(text));
+        choseong.put(id, HangulText.choseong(text));
+    }
+
+    void remove(Long id) {
+        jamo.remove(id);
+        choseong.remove(id);
+    }
+
+    /**
+     * 검색어를 포함하는 id (큰 id 순 최대 limit개)
+     * - 자음만으로 된 검색어는 초성 검색, 그 외는 자모 부분 일치
+     */
+    List<Long> search(String keyword, int limit) {
+        return HangulText.isChoseongQuery(keyword)
+                ? choseong.search(HangulText.choseong(keyword), limit)
+                : jamo.search(HangulText.jamo(keyword), limit);
+    }
+
+    int size() {
+        return jamo.textById.size();
+    }
+
+    private static final class Field {
+
+        private final Map<Long, String> textById = new HashMap<>();
+        private final Map<Integer, Set<Long>> postings = new HashMap<>();
+
+        void put(Long id, String text) {
+            if (text.isEmpty()) return;
+            textById.put(id, text);
+            for (int gram : grams(text, true)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>(4)).add(id);
+            }
+        }
+
+        void remove(Long id) {
+            String text = textById.remove(id);
+            if (text == null) return;
+            for (int gram : grams(text, true)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) postings.remove(gram);
+            }
+        }
+
+        List<Long> search(String key, int limit) {
+            if (key.isEmpty()) return List.of();
+
+            List<Set<Long>> lists = new ArrayList<>();
+            for (int gram : grams(key, false)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) return List.of();
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> matched = new ArrayList<>();
+            for (Long id : lists.get(0)) {
+                if (containsAll(lists, id) && textById.get(id).contains(key)) matched.add(id);
+            }
+            matched.sort(Comparator.reverseOrder());
+            return matched.size() <= limit ? matched : List.copyOf(matched.subList(0, limit));
+        }
+
+        private static boolean containsAll(List<Set<Long>> lists, Long id) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) return false;
+            }
+            return true;
+        }
+
+        // 1-gram은 색인할 때 항상, 검색할 때는 한 글자 검색어만 사용
+        private static Set<Integer> grams(String text, boolean indexing) {
+            Set<Integer> grams = new HashSet<>();
+            if (indexing || text.length() == 1) {
+                for (int i = 0; i < text.length(); i++) grams.add((int) text.charAt(i));
+            }
+            for (int i = 0; i + 1 < text.length(); i++) {
+                grams.add(text.charAt(i) << 16 | text.charAt(i + 1));
+            }
+            return grams;
+        }
+    }
+}
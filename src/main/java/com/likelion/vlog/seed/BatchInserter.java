@@ -0,0 +1,90 @@
+package com.likelion.vlog.seed;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 테이블 하나에 대한 multi-row INSERT 버퍼
+ * - add()로 모아뒀다가 flush() 때 rowsPerStatement 행씩 INSERT ... VALUES (...),(...) 로 실행
+ * - 같은 크기의 문장은 JDBC 배치로 묶어서 한 번에 전송
+ */
+class BatchInserter {
+
+    private final String table;
+    private final String columns;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private long inserted;
+    private long nanos;
+
+    BatchInserter(String table, List<String> columns, int rowsPerStatement) {
+        this.table = table;
+        this.columns = String.join(", ", columns);
+        this.columnCount = columns.size();
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    void add(Object... values) {
+        rows.add(values);
+    }
+
+    void flush(Connection connection) throws SQLException {
+        if (rows.isEmpty()) return;
+        long start = System.nanoTime();
+
+        int full = rows.size() / rowsPerStatement * rowsPerStatement;
+        if (full > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(sql(rowsPerStatement))) {
+                for (int from = 0; from < full; from += rowsPerStatement) {
+                    bind(statement, rows.subList(from, from + rowsPerStatement));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        if (full < rows.size()) {
+            List<Object[]> rest = rows.subList(full, rows.size());
+            try (PreparedStatement statement = connection.prepareStatement(sql(rest.size()))) {
+                bind(statement, rest);
+                statement.executeUpdate();
+            }
+        }
+
+        inserted += rows.size();
+        nanos += System.nanoTime() - start;
+        rows.clear();
+    }
+
+    private void bind(PreparedStatement statement, List<Object[]> chunk) throws SQLException {
+        int index = 1;
+        for (Object[] row : chunk) {
+            for (Object value : row) {
+                statement.setObject(index++, value);
+            }
+        }
+    }
+
+    private String sql(int rowCount) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return "INSERT INTO " + table + " (" + columns + ") VALUES "
+                + String.join(", ", Collections.nCopies(rowCount, placeholders));
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    long getInserted() {
+        return inserted;
+    }
+
+    long getNanos() {
+        return nanos;
+    }
+}
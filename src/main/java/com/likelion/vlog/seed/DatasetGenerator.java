@@ -0,0 +1,351 @@
+package com.likelion.vlog.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 부하 테스트용 대용량 데이터 생성기 (seed 프로필에서 기동 시 1회 실행)
+ * - 실행: SPRING_PROFILES_ACTIVE=local,seed ./gradlew bootRun
+ * - 기존 데이터 뒤에 이어서 생성 (각 테이블 MAX(id) + 1 부터), 끝나면 *_seq 값을 올려서 이후 INSERT와 충돌 방지
+ * - 작성자/태그/팔로우 대상은 Zipf 인기도, 좋아요/댓글/팔로우 수는 Zipf 활동량 분포
+ * - JPA를 거치지 않고 JDBC multi-row INSERT로 적재
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final String PASSWORD = "{noop}test1234";
+
+    private static final List<String> TAG_WORDS = List.of(
+            "java", "spring", "jpa", "mysql", "react", "typescript", "javascript", "docker", "aws", "kotlin",
+            "python", "algorithm", "cs", "network", "os", "database", "redis", "kafka", "git", "linux",
+            "회고", "취업", "코딩테스트", "면접", "프로젝트", "일상", "독서", "여행", "개발일지", "TIL");
+
+    private static final String[] WORDS = {
+            "스프링", "부트", "자바", "게시판", "블로그", "성능", "최적화", "인덱스", "쿼리", "트랜잭션",
+            "캐시", "배포", "테스트", "리팩터링", "설계", "도메인", "엔티티", "API", "서버", "클라이언트",
+            "오늘은", "정리", "방법", "문제", "해결", "경험", "공부", "기록", "기초", "심화"};
+
+    private final DataSource dataSource;
+    private final SeedProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Random random = new Random(properties.getSeed());
+        long started = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            Ids base = Ids.read(connection);
+            log.info("데이터 생성 시작: users={}, posts={}, tags={}, seed={}",
+                    properties.getUsers(), properties.getPosts(), properties.getTags(), properties.getSeed());
+
+            List<BatchInserter> inserters = new ArrayList<>();
+            inserters.add(insertUsers(connection, base));
+            inserters.add(insertBlogs(connection, base));
+            inserters.add(insertTags(connection, base));
+            inserters.addAll(insertPosts(connection, base, random));
+            inserters.add(insertFollows(connection, base, random));
+
+            bumpSequences(connection);
+            connection.commit();
+
+            report(inserters, Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private BatchInserter insertUsers(Connection connection, Ids base) throws SQLException {
+        BatchInserter users = new BatchInserter("users",
+                List.of("user_id", "email", "password", "nickname", "version", "created_at", "updated_at"),
+                properties.getRowsPerStatement());
+        LocalDateTime createdAt = LocalDateTime.now().minusYears(1);
+
+        for (int i = 1; i <= properties.getUsers(); i++) {
+            long id = base.users + i;
+            users.add(id, "seed" + id + "@test.com", PASSWORD, "seed" + id, 0L, createdAt, createdAt);
+            if (i % properties.getRowsPerStatement() == 0) users.flush(connection);
+        }
+        users.flush(connection);
+        connection.commit();
+        return users;
+    }
+
+    // 사용자 1명당 블로그 1개 (회원가입과 동일)
+    private BatchInserter insertBlogs(Connection connection, Ids base) throws SQLException {
+        BatchInserter blogs = new BatchInserter("blogs",
+                List.of("blog_id", "user_id", "title", "created_at", "updated_at"),
+                properties.getRowsPerStatement());
+        LocalDateTime createdAt = LocalDateTime.now().minusYears(1);
+
+        for (int i = 1; i <= properties.getUsers(); i++) {
+            long userId = base.users + i;
+            blogs.add(base.blogs + i, userId, "seed" + userId + "의 블로그", createdAt, createdAt);
+            if (i % properties.getRowsPerStatement() == 0) blogs.flush(connection);
+        }
+        blogs.flush(connection);
+        connection.commit();
+        return blogs;
+    }
+
+    // 인기 순위(1위부터)대로 자주 쓰이는 단어 태그 -> 이후는 tag-N
+    private BatchInserter insertTags(Connection connection, Ids base) throws SQLException {
+        BatchInserter tags = new BatchInserter("tags",
+                List.of("tag_id", "title", "created_at", "updated_at"),
+                properties.getRowsPerStatement());
+        Set<String> existing = existingTagTitles(connection);
+        LocalDateTime createdAt = LocalDateTime.now().minusYears(1);
+
+        for (int rank = 1; rank <= properties.getTags(); rank++) {
+            long id = base.tags + rank;
+            String title = rank <= TAG_WORDS.size() ? TAG_WORDS.get(rank - 1) : "tag-" + rank;
+            if (existing.contains(title)) title = title + "-" + id;
+            tags.add(id, title, createdAt, createdAt);
+        }
+        tags.flush(connection);
+        connection.commit();
+        return tags;
+    }
+
+    /**
+     * 게시글과 자식 행(태그 매핑, 좋아요, 댓글/답글)을 postsPerCommit 단위로 생성
+     * - 게시글의 like_count는 실제 생성한 좋아요 행 수와 일치
+     */
+    private List<BatchInserter> insertPosts(Connection connection, Ids base, Random random) throws SQLException {
+        int rows = properties.getRowsPerStatement();
+        BatchInserter posts = new BatchInserter("posts",
+                List.of("post_id", "blog_id", "title", "content", "view_count", "like_count", "version",
+                        "created_at", "updated_at"), rows);
+        BatchInserter tagMaps = new BatchInserter("tag_maps",
+                List.of("tag_map_id", "post_id", "tag_id", "created_at", "updated_at"), rows);
+        BatchInserter likes = new BatchInserter("likes",
+                List.of("like_id", "user_id", "post_id", "created_at", "updated_at"), rows);
+        BatchInserter comments = new BatchInserter("comments",
+                List.of("comment_id", "post_id", "user_id", "parent_id", "content", "created_at", "updated_at"), rows);
+
+        int userCount = properties.getUsers();
+        ZipfSampler author = new ZipfSampler(userCount, properties.getPopularityExponent(), random);
+        ZipfSampler commenter = new ZipfSampler(userCount, properties.getPopularityExponent(), random);
+        ZipfSampler tag = new ZipfSampler(properties.getTags(), properties.getPopularityExponent(), random);
+        ZipfSampler tagCount = new ZipfSampler(properties.getMaxTagsPerPost(), properties.getActivityExponent(), random);
+        ZipfSampler likeCount = new ZipfSampler(properties.getMaxLikesPerPost() + 1, properties.getActivityExponent(), random);
+        ZipfSampler commentCount = new ZipfSampler(properties.getMaxCommentsPerPost() + 1, properties.getActivityExponent(), random);
+        ZipfSampler replyCount = new ZipfSampler(properties.getMaxRepliesPerComment() + 1, properties.getActivityExponent(), random);
+
+        // 1년 전부터 지금까지 id 순서대로 작성 시각 분포
+        LocalDateTime from = LocalDateTime.now().minusYears(1);
+        long stepMillis = Math.max(1, Duration.ofDays(365).toMillis() / Math.max(1, properties.getPosts()));
+
+        long tagMapId = base.tagMaps;
+        long likeId = base.likes;
+        long commentId = base.comments;
+        int progressStep = Math.max(1, properties.getPosts() / 10);
+
+        for (int i = 1; i <= properties.getPosts(); i++) {
+            long postId = base.posts + i;
+            LocalDateTime createdAt = from.plusNanos(stepMillis * i * 1_000_000L);
+
+            // 태그 (중복 없이 1~maxTagsPerPost개)
+            Set<Integer> tagRanks = new HashSet<>();
+            int wantTags = Math.min(tagCount.next(), properties.getTags());
+            while (tagRanks.size() < wantTags) {
+                tagRanks.add(tag.next());
+            }
+
+            // 좋아요: 임의 시작점부터 연속된 사용자 (중복 없음)
+            int likesOnPost = Math.min(likeCount.next() - 1, userCount);
+            int viewCount = likesOnPost * 20 + random.nextInt(50);
+
+            posts.add(postId, base.blogs + author.next(), sentence(random, 3 + random.nextInt(5)),
+                    sentence(random, properties.getContentWords()), viewCount, likesOnPost, 0L, createdAt, createdAt);
+
+            for (int rank : tagRanks) {
+                tagMaps.add(++tagMapId, postId, base.tags + rank, createdAt, createdAt);
+            }
+
+            int firstLiker = random.nextInt(userCount);
+            for (int l = 0; l < likesOnPost; l++) {
+                long userId = base.users + (firstLiker + l) % userCount + 1;
+                likes.add(++likeId, userId, postId, createdAt, createdAt);
+            }
+
+            // 댓글 -> 답글 순서로 추가 (부모가 먼저 INSERT 되도록)
+            int rootComments = commentCount.next() - 1;
+            for (int c = 0; c < rootComments; c++) {
+                long rootId = ++commentId;
+                LocalDateTime commentedAt = createdAt.plusMinutes(c + 1);
+                comments.add(rootId, postId, base.users + commenter.next(), null,
+                        sentence(random, 8), commentedAt, commentedAt);
+
+                int replies = replyCount.next() - 1;
+                for (int r = 0; r < replies; r++) {
+                    LocalDateTime repliedAt = commentedAt.plusMinutes(r + 1);
+                    comments.add(++commentId, postId, base.users + commenter.next(), rootId,
+                            sentence(random, 6), repliedAt, repliedAt);
+                }
+            }
+
+            if (i % properties.getPostsPerCommit() == 0 || i == properties.getPosts()) {
+                // 부모 테이블부터
+                posts.flush(connection);
+                tagMaps.flush(connection);
+                likes.flush(connection);
+                comments.flush(connection);
+                connection.commit();
+            }
+            if (i % progressStep == 0) {
+                log.info("게시글 {}/{} 생성", i, properties.getPosts());
+            }
+        }
+        return List.of(posts, tagMaps, likes, comments);
+    }
+
+    // 팔로우 대상은 인기 사용자에게 몰림, 자기 자신/중복 제외
+    private BatchInserter insertFollows(Connection connection, Ids base, Random random) throws SQLException {
+        BatchInserter follows = new BatchInserter("follows",
+                List.of("follow_id", "follower_id", "following_id", "created_at", "updated_at"),
+                properties.getRowsPerStatement());
+
+        int userCount = properties.getUsers();
+        ZipfSampler followee = new ZipfSampler(userCount, properties.getPopularityExponent(), random);
+        ZipfSampler followCount = new ZipfSampler(properties.getMaxFollowsPerUser() + 1, properties.getActivityExponent(), random);
+        LocalDateTime createdAt = LocalDateTime.now().minusMonths(6);
+
+        long followId = base.follows;
+        for (int follower = 1; follower <= userCount; follower++) {
+            int want = Math.min(followCount.next() - 1, userCount - 1);
+            Set<Integer> targets = new HashSet<>();
+            int attempts = 0;
+            while (targets.size() < want && attempts++ < want * 10) {
+                int target = followee.next();
+                if (target != follower) targets.add(target);
+            }
+            for (int target : targets) {
+                follows.add(++followId, base.users + follower, base.users + target, createdAt, createdAt);
+            }
+            if (follower % properties.getPostsPerCommit() == 0) {
+                follows.flush(connection);
+                connection.commit();
+            }
+        }
+        follows.flush(connection);
+        connection.commit();
+        return follows;
+    }
+
+    /**
+     * Hibernate 시퀀스를 생성한 id 뒤로 이동
+     * - MySQL(Flyway V2): *_seq 테이블의 next_val 갱신
+     * - H2(ddl-auto): 시퀀스 RESTART
+     */
+    private void bumpSequences(Connection connection) throws SQLException {
+        Map<String, String> idColumns = new LinkedHashMap<>();
+        idColumns.put("users", "user_id");
+        idColumns.put("blogs", "blog_id");
+        idColumns.put("posts", "post_id");
+        idColumns.put("tags", "tag_id");
+        idColumns.put("tag_maps", "tag_map_id");
+        idColumns.put("comments", "comment_id");
+        idColumns.put("likes", "like_id");
+        idColumns.put("follows", "follow_id");
+
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, String> entry : idColumns.entrySet()) {
+                long next = max(connection, entry.getKey(), entry.getValue()) + 1;
+                String sequence = entry.getKey() + "_seq";
+                if (tableExists(connection, sequence)) {
+                    statement.executeUpdate("UPDATE " + sequence + " SET next_val = " + next);
+                } else {
+                    statement.executeUpdate("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+                }
+            }
+        }
+    }
+
+    private void report(List<BatchInserter> inserters, Duration elapsed) {
+        long total = 0;
+        for (BatchInserter inserter : inserters) {
+            total += inserter.getInserted();
+            double seconds = inserter.getNanos() / 1_000_000_000.0;
+            log.info("  {}: {}행, INSERT {}초 ({}행/초)", inserter.getTable(), inserter.getInserted(),
+                    String.format("%.1f", seconds), seconds > 0 ? Math.round(inserter.getInserted() / seconds) : 0);
+        }
+        double seconds = elapsed.toMillis() / 1000.0;
+        log.info("데이터 생성 완료: 총 {}행, {}초 ({}행/초)", total, String.format("%.1f", seconds),
+                seconds > 0 ? Math.round(total / seconds) : 0);
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) builder.append(' ');
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private Set<String> existingTagTitles(Connection connection) throws SQLException {
+        Set<String> titles = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT title FROM tags")) {
+            while (resultSet.next()) {
+                titles.add(resultSet.getString(1));
+            }
+        }
+        return titles;
+    }
+
+    private static long max(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    // H2는 대문자, MySQL은 소문자로 저장하므로 둘 다 확인
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : List.of(table, table.toUpperCase(Locale.ROOT))) {
+            try (ResultSet resultSet = metaData.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                if (resultSet.next()) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 테이블별 기존 MAX(id) - 새 id는 이 값 + 1 부터
+     */
+    private record Ids(long users, long blogs, long posts, long tags,
+                       long tagMaps, long comments, long likes, long follows) {
+
+        static Ids read(Connection connection) throws SQLException {
+            return new Ids(
+                    max(connection, "users", "user_id"),
+                    max(connection, "blogs", "blog_id"),
+                    max(connection, "posts", "post_id"),
+                    max(connection, "tags", "tag_id"),
+                    max(connection, "tag_maps", "tag_map_id"),
+                    max(connection, "comments", "comment_id"),
+                    max(connection, "likes", "like_id"),
+                    max(connection, "follows", "follow_id"));
+        }
+    }
+}
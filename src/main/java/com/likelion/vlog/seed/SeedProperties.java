@@ -0,0 +1,42 @@
+package com.likelion.vlog.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대용량 데이터 생성 설정 (vlog.seed.*, application-seed.yml)
+ */
+@Getter
+@Setter
+@Component
+@Profile("seed")
+@ConfigurationProperties(prefix = "vlog.seed")
+public class SeedProperties {
+
+    // 같은 seed면 같은 데이터 (재현 가능)
+    private long seed = 42L;
+
+    private int users = 10_000;
+    private int posts = 100_000;
+    private int tags = 2_000;
+
+    // 인기도(작성자/태그/팔로우 대상/댓글 작성자) Zipf 지수
+    private double popularityExponent = 1.1;
+    // 활동량(게시글당 좋아요/댓글 수, 사용자당 팔로우 수) Zipf 지수 - 대부분 적고 소수만 많음
+    private double activityExponent = 2.0;
+
+    private int maxTagsPerPost = 5;
+    private int maxLikesPerPost = 200;
+    private int maxCommentsPerPost = 30;
+    private int maxRepliesPerComment = 5;
+    private int maxFollowsPerUser = 100;
+    private int contentWords = 60;
+
+    // INSERT 한 문장에 담는 행 수 (multi-row INSERT)
+    private int rowsPerStatement = 1_000;
+    // 커밋 단위 (게시글 수 기준, 자식 행 포함)
+    private int postsPerCommit = 2_000;
+}
@@ -0,0 +1,36 @@
+package com.likelion.vlog.seed;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 표본 추출 (1..n, P(k) ∝ 1/k^s)
+ * - 누적분포를 미리 계산해두고 이진 탐색 (O(log n))
+ */
+class ZipfSampler {
+
+    private final double[] cdf;
+    private final Random random;
+
+    ZipfSampler(int n, double exponent, Random random) {
+        this.cdf = new double[n];
+        this.random = random;
+
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    /**
+     * 1..n 중 하나 (1이 가장 자주 나옴)
+     */
+    int next() {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+}
@@ -3,9 +3,11 @@ package com.likelion.vlog.service;
 import com.likelion.vlog.dto.auth.SignupRequest;
 import com.likelion.vlog.dto.users.UserGetResponse;
 import com.likelion.vlog.entity.User;
+import com.likelion.vlog.event.UserChangedEvent;
 import com.likelion.vlog.exception.DuplicateException;
 import com.likelion.vlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -23,6 +25,7 @@ public class AuthService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -38,6 +41,7 @@ public class AuthService implements UserDetailsService {
         }
         User user = User.of(dto, passwordEncoder);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(user.getId(), user.getBlog().getId(), user.getNickname(), user.getBlog().getTitle()));
         return UserGetResponse.of(user);
     }
 
@@ -0,0 +1,33 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.autocomplete.AutocompleteIndex;
+import com.likelion.vlog.autocomplete.Suggestion;
+import com.likelion.vlog.dto.autocomplete.AutocompleteGetResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 태그/닉네임 자동완성
+ * - 메모리 인덱스(AutocompleteIndex)만 조회하므로 트랜잭션 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    /**
+     * 접두사로 시작하는 태그/닉네임 상위 size개 (공백/대소문자 무시)
+     */
+    public AutocompleteGetResponse autocomplete(String prefix, int size) {
+        return AutocompleteGetResponse.of(
+                limit(autocompleteIndex.tags(prefix), size),
+                limit(autocompleteIndex.users(prefix), size));
+    }
+
+    private static List<Suggestion> limit(List<Suggestion> suggestions, int size) {
+        return suggestions.size() <= size ? suggestions : suggestions.subList(0, Math.max(size, 0));
+    }
+}
@@ -4,12 +4,14 @@ import com.likelion.vlog.dto.comments.*;
 import com.likelion.vlog.entity.Comment;
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.User;
+import com.likelion.vlog.event.CommentChangedEvent;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.CommentRepository;
 import com.likelion.vlog.repository.PostRepository;
 import com.likelion.vlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글의 댓글 목록 조회 (대댓글 포함)
@@ -40,16 +43,25 @@ public class CommentService {
                 .toList();
     }
 
+    /**
+     * 댓글 목록 ETag 버전 (게시글 버전, 댓글 변경 시 증가)
+     */
+    public Long getCommentsVersion(Long postId) {
+        return postRepository.findVersionById(postId)
+                .orElseThrow(() -> NotFoundException.post(postId));
+    }
+
     /**
      * 댓글 작성
      */
     @Transactional
     public CommentPostResponse createComment(Long postId, CommentCreatePostRequest request, String email) {
-        Post post = findPostById(postId);
+        Post post = findPostForCommentChange(postId);
         User user = findUserByEmail(email);
 
         Comment comment = Comment.of(user, post, request.getContent());
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.created(postId));
 
         return CommentPostResponse.from(savedComment);
     }
@@ -59,7 +71,7 @@ public class CommentService {
      */
     @Transactional
     public CommentPutResponse updateComment(Long postId, Long commentId, CommentUpdatePutRequest request, String email) {
-        Post post = findPostById(postId);
+        Post post = findPostForCommentChange(postId);
         Comment comment = findCommentById(commentId);
 
         validateCommentBelongsToPost(comment, post);
@@ -67,6 +79,7 @@ public class CommentService {
         validateOwnership(comment, email, true);
 
         comment.update(request.getContent());
+        eventPublisher.publishEvent(CommentChangedEvent.of(postId));
 
         return CommentPutResponse.from(comment);
     }
@@ -76,7 +89,7 @@ public class CommentService {
      */
     @Transactional
     public void deleteComment(Long postId, Long commentId, String email) {
-        Post post = findPostById(postId);
+        Post post = findPostForCommentChange(postId);
         Comment comment = findCommentById(commentId);
 
         validateCommentBelongsToPost(comment, post);
@@ -84,6 +97,7 @@ public class CommentService {
         validateOwnership(comment, email, false);
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.of(postId));
     }
 
     /**
@@ -91,7 +105,7 @@ public class CommentService {
      */
     @Transactional
     public ReplyPostResponse createReply(Long postId, Long commentId, ReplyCreatePostRequest request, String email) {
-        Post post = findPostById(postId);
+        Post post = findPostForCommentChange(postId);
         Comment parentComment = findCommentById(commentId);
 
         validateCommentBelongsToPost(parentComment, post);
@@ -101,6 +115,7 @@ public class CommentService {
 
         Comment reply = Comment.ofReply(user, post, parentComment, request.getContent());
         Comment savedReply = commentRepository.save(reply);
+        eventPublisher.publishEvent(CommentChangedEvent.created(postId));
 
         return ReplyPostResponse.from(savedReply);
     }
@@ -110,7 +125,7 @@ public class CommentService {
      */
     @Transactional
     public ReplyPutResponse updateReply(Long postId, Long commentId, Long replyId, ReplyUpdatePutRequest request, String email) {
-        Post post = findPostById(postId);
+        Post post = findPostForCommentChange(postId);
         Comment parentComment = findCommentById(commentId);
         Comment reply = findCommentById(replyId);
 
@@ -119,6 +134,7 @@ public class CommentService {
         validateOwnership(reply, email, true);
 
         reply.update(request.getContent());
+        eventPublisher.publishEvent(CommentChangedEvent.of(postId));
 
         return ReplyPutResponse.from(reply);
     }
@@ -128,7 +144,7 @@ public class CommentService {
      */
     @Transactional
     public void deleteReply(Long postId, Long commentId, Long replyId, String email) {
-        Post post = findPostById(postId);
+        Post post = findPostForCommentChange(postId);
         Comment parentComment = findCommentById(commentId);
         Comment reply = findCommentById(replyId);
 
@@ -137,6 +153,7 @@ public class CommentService {
         validateOwnership(reply, email, false);
 
         commentRepository.delete(reply);
+        eventPublisher.publishEvent(CommentChangedEvent.of(postId));
     }
 
     // === Helper Methods ===
@@ -146,6 +163,12 @@ public class CommentService {
                 .orElseThrow(() -> NotFoundException.post(postId));
     }
 
+    // 댓글 변경도 게시글 ETag에 반영되도록 게시글 버전 증가
+    private Post findPostForCommentChange(Long postId) {
+        return postRepository.findWithVersionIncrementById(postId)
+                .orElseThrow(() -> NotFoundException.post(postId));
+    }
+
     private User findUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> NotFoundException.user(email));
@@ -17,6 +17,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 
 @Service
 @RequiredArgsConstructor
@@ -99,18 +102,23 @@ public class FollowService {
 
     /**
      * 팔로워 조회
+     * - 맞팔로우 여부는 페이지의 팔로워 전체를 한 번에 조회 (팔로워마다 조회하지 않음)
      */
     public Page<FollowerGetResponse> getFollowers(Long userId, Pageable pageable) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> NotFoundException.user(userId));
 
-        return followRepository.findByFollowing(user, pageable)
-                .map(follow -> {
-                    User follower = follow.getFollower();
-                    boolean isFollowing =
-                            followRepository.existsByFollowerAndFollowing(user, follower);
-
-                    return FollowerGetResponse.of(follower, isFollowing);
-                });
+        Page<Follow> follows = followRepository.findByFollowing(user, pageable);
+        List<User> followers = follows.getContent().stream()
+                .map(Follow::getFollower)
+                .toList();
+        Set<Long> followingIds = followers.isEmpty()
+                ? Set.of()
+                : followRepository.findFollowingIdsAmong(user, followers);
+
+        return follows.map(follow -> {
+            User follower = follow.getFollower();
+            return FollowerGetResponse.of(follower, followingIds.contains(follower.getId()));
+        });
     }
 }
@@ -1,17 +1,23 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.LikeInfoSingleFlight;
 import com.likelion.vlog.dto.like.LikeResponse;
 import com.likelion.vlog.entity.Like;
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.User;
+import com.likelion.vlog.event.LikeChangedEvent;
 import com.likelion.vlog.exception.DuplicateException;
 import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.LikeRepository;
 import com.likelion.vlog.repository.PostRepository;
 import com.likelion.vlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
@@ -21,6 +27,10 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final LikeInfoSingleFlight likeInfoSingleFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     // 좋아요 추가
     public LikeResponse addLike(String email, Long postId) {
@@ -45,6 +55,8 @@ public class LikeService {
         Post updatedPost = postRepository.findById(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
+        eventPublisher.publishEvent(LikeChangedEvent.of(postId, updatedPost.getLikeCount(), true));
+
         return LikeResponse.from(updatedPost.getLikeCount(),true);
     }
 
@@ -65,12 +77,23 @@ public class LikeService {
         Post updatedPost = postRepository.findById(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
+        eventPublisher.publishEvent(LikeChangedEvent.of(postId, updatedPost.getLikeCount(), false));
+
         return LikeResponse.from(updatedPost.getLikeCount(), false);
     }
 
-    // 좋아요 정보 조회 (로그인 / 비로그인 모두 허용)
-    @Transactional(readOnly = true)
+    /**
+     * 좋아요 정보 조회 (로그인 / 비로그인 모두 허용)
+     * - 같은 회원/게시글의 동시 조회는 한 번만 실행하고 결과를 공유 (LikeInfoSingleFlight)
+     * - 합류한 요청은 커넥션 없이 대기 (NOT_SUPPORTED), 실제 조회만 읽기 전용 트랜잭션
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LikeResponse getLikeInfo(String email, Long postId) {
+        return likeInfoSingleFlight.get(email, postId,
+                () -> readOnlyTransactionTemplate.execute(status -> loadLikeInfo(email, postId)));
+    }
+
+    private LikeResponse loadLikeInfo(String email, Long postId) {
 
         // 1. 전체 좋아요 수 (항상 조회)
         Integer count = postRepository.findById(postId)
@@ -0,0 +1,52 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.TagRepository;
+import com.likelion.vlog.repository.TagUsageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글이 하나도 없는 태그 정리
+ * - 게시글 수정/삭제로 마지막 매핑이 빠진 태그는 바로 지우지 않고 주기적으로 모아서 삭제
+ * - batch-size 단위로 나눠 트랜잭션마다 잠그는 행 수를 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanTagCleaner {
+
+    private final TagRepository tagRepository;
+    private final TagUsageRepository tagUsageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${vlog.tag.orphan-cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${vlog.tag.orphan-cleanup.interval:1h}")
+    public void clean() {
+        int deleted = 0;
+        try {
+            int batch;
+            do {
+                batch = transactionTemplate.execute(status -> {
+                    List<Long> ids = tagUsageRepository.findOrphanIds(PageRequest.of(0, batchSize));
+                    if (ids.isEmpty()) return 0;
+                    // 카운터 먼저 삭제 (FK), 그 사이 다시 사용된 태그는 카운터가 남아 함께 제외됨
+                    tagUsageRepository.deleteOrphans(ids);
+                    return tagRepository.deleteOrphans(ids);
+                });
+                deleted += batch;
+            } while (batch == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("태그 정리 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+        if (deleted > 0) log.info("게시글 없는 태그 {}건 삭제", deleted);
+    }
+}
@@ -1,18 +1,43 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.CachedPostDetail;
+import com.likelion.vlog.cache.PostDetailCache;
+import com.likelion.vlog.cache.PostFacetCache;
+import com.likelion.vlog.cache.PostListCache;
+import com.likelion.vlog.cache.PostListCacheKey;
 import com.likelion.vlog.dto.comments.CommentWithRepliesGetResponse;
+import com.likelion.vlog.dto.like.LikeResponse;
 import com.likelion.vlog.dto.posts.*;
 import com.likelion.vlog.entity.*;
+import com.likelion.vlog.enums.PostField;
+import com.likelion.vlog.enums.PostInclude;
+import com.likelion.vlog.enums.SortField;
+import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.event.PostChangedEvent;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.monitoring.SearchMetrics;
+import com.likelion.vlog.related.RelatedPostIndex;
 import com.likelion.vlog.repository.*;
+import com.likelion.vlog.trending.TrendingBoard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * 게시글 비즈니스 로직
@@ -23,71 +48,185 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_RELATED_SIZE = 20;
+
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
+    private final TagUsageRepository tagUsageRepository;
     private final TagMapRepository tagMapRepository;
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
+    private final PostListCache postListCache;
+    private final PostDetailCache postDetailCache;
+    private final PostFacetCache postFacetCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final SearchMetrics searchMetrics;
+    private final TrendingBoard trendingBoard;
+    private final RelatedPostIndex relatedPostIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    @Qualifier("queryExecutor")
+    private final Executor queryExecutor;
 
     /**
-     * 게시글 목록 조회 (페이징 + 필터링)
-     * - tag: 특정 태그가 달린 게시글만 조회
-     * - blogId: 특정 블로그의 게시글만 조회
-     * - 둘 다 null이면 전체 조회
+     * 게시글 목록 검색
+     * - 캐시 hit 시 트랜잭션/커넥션 없이 반환 (NOT_SUPPORTED)
+     * - miss 시에만 읽기 전용 트랜잭션으로 조회
+     * - facets=true면 태그 facet을 붙여 반환 (검색 조건별로 따로 캐시)
      */
-    public PageResponse<PostListGetResponse> getPosts(String tag, Long blogId, Pageable pageable) {
-        Page<Post> postPage;
-
-        // 필터 조건에 따라 다른 쿼리 실행
-        if (tag != null && blogId != null) {
-            postPage = postRepository.findAllByTagNameAndBlogId(tag, blogId, pageable);
-        } else if (tag != null) {
-            postPage = postRepository.findAllByTagName(tag, pageable);
-        } else if (blogId != null) {
-            postPage = postRepository.findAllByBlogId(blogId, pageable);
-        } else {
-            postPage = postRepository.findAll(pageable);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PageResponse<PostListGetResponse> getPosts(PostGetRequest request) {
+        searchMetrics.record(request);
+        PostListCacheKey key = PostListCacheKey.from(request);
+        PageResponse<PostListGetResponse> response = postListCache.get(key,
+                () -> readOnlyTransactionTemplate.execute(status -> searchPosts(request)));
+        if (!request.isFacets()) return response;
+
+        return response.withFacets(postFacetCache.get(key,
+                () -> readOnlyTransactionTemplate.execute(status -> countFacets(key, request))));
+    }
+
+    // id 페이지를 먼저 구하고, 응답 필드는 요청한 컬럼만 projection으로 조회
+    private PageResponse<PostListGetResponse> searchPosts(PostGetRequest request) {
+        Page<Long> idPage = request.getSort() == SortField.TRENDING
+                ? postRepository.searchAmong(trendingCandidates(request), request)
+                : postRepository.search(request);
+        List<PostListGetResponse> content = postRepository.findListItems(idPage.getContent(), PostField.resolve(request.getFields()));
+        return PageResponse.of(idPage, content);
+    }
+
+    /**
+     * 태그 facet 집계
+     * - 조건 없음: 태그별 게시글 수 카운터(usage_count) 상위 그대로 사용
+     * - 조건 있음: 조건에 맞는 최근 게시글 id를 max-posts건까지 뽑아 태그별로 GROUP BY (넘으면 complete=false)
+     */
+    private PostFacetGetResponse countFacets(PostListCacheKey key, PostGetRequest request) {
+        PageRequest top = PageRequest.of(0, postFacetCache.getMaxTags());
+        if (!key.hasFilter()) {
+            List<PostFacetGetResponse.TagCount> tags = tagUsageRepository.findPopular(top).stream()
+                    .map(tag -> new PostFacetGetResponse.TagCount(tag.getTitle(), tag.getUsageCount()))
+                    .toList();
+            return PostFacetGetResponse.of(tags, true);
         }
 
-        List<Post> posts = postPage.getContent();
+        int maxPosts = postFacetCache.getMaxPosts();
+        List<Long> postIds = postRepository.findLatestIds(request, maxPosts + 1);
+        boolean complete = postIds.size() <= maxPosts;
+        if (!complete) postIds = postIds.subList(0, maxPosts);
+        if (postIds.isEmpty()) return PostFacetGetResponse.of(List.of(), true);
 
-        // Entity -> DTO 변환
-        List<PostListGetResponse> content = posts.stream()
-                .map(PostListGetResponse::of)
-                .toList();
+        return PostFacetGetResponse.of(tagMapRepository.countTagsByPostIds(postIds, top), complete);
+    }
 
-        return PageResponse.of(postPage, content);
+    /**
+     * 트렌딩 후보 (순위순)
+     * - OR/AND: 요청 태그별 상위 K의 합집합 (AND는 searchAmong에서 다시 걸러냄)
+     * - NAND/태그 없음: 전체 상위 K
+     */
+    private List<Long> trendingCandidates(PostGetRequest request) {
+        List<String> tags = request.getTagMode() == TagMode.NAND ? List.of() : request.getTag();
+        return trendingBoard.top(tags);
     }
 
-    public PageResponse<PostListGetResponse> getPosts(PostGetRequest request) {
-        Page<Post> postPage = postRepository.search(request);
-        List<Post> posts = postPage.getContent();
-        List<PostListGetResponse> content = posts.stream()
-                .map(PostListGetResponse::of)
-                .toList();
-        return PageResponse.of(postPage, content);
+    /**
+     * 게시글 상세 + 좋아요 상태/댓글 (include)
+     * - 상세(캐시 또는 조회)와 현재 회원의 좋아요 여부를 병렬로 조회 (각자 읽기 전용 트랜잭션)
+     * - 좋아요 수는 상세 응답의 값을 사용하므로 게시글을 다시 조회하지 않음
+     * - 비로그인(email == null)이면 좋아요 여부는 쿼리 없이 false
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostGetResponse getPost(Long postId, Set<PostField> fields, Set<PostInclude> includes, String email) {
+        if (!includes.contains(PostInclude.LIKE_STATE)) {
+            return getPost(postId, includes.contains(PostInclude.COMMENTS) ? with(fields, PostField.COMMENTS) : fields);
+        }
+
+        CompletableFuture<Boolean> liked = email == null
+                ? CompletableFuture.completedFuture(false)
+                : submitLikeCheck(email, postId);
+
+        Set<PostField> requested = includes.contains(PostInclude.COMMENTS) ? with(fields, PostField.COMMENTS) : fields;
+
+        // 상세 조회는 호출 스레드에서 (트랜잭션이 끝난 뒤에 좋아요 조회를 기다리므로 커넥션을 쥔 채 대기하지 않음)
+        PostGetResponse response = getPost(postId, with(requested, PostField.LIKE_COUNT));
+        LikeResponse likeState = LikeResponse.from(response.getLikeCount(), join(liked));
+        if (!requested.contains(PostField.LIKE_COUNT)) response = response.select(requested);
+        return response.withLikeState(likeState);
     }
 
     /**
      * 게시글 상세 조회
      * - 댓글/대댓글 포함
-     * - 조회수 증가
+     * - 캐시 hit 시 쿼리 없이 반환 (조회수/좋아요 수는 캐시 항목의 카운터로 덮어씀)
+     * - fields로 일부만 요청하면 캐시 hit은 잘라서 반환, miss는 요청한 컬럼/연관만 조회 (캐시에 넣지 않음)
+     * - 조회수 증가는 ViewCountBuffer에 모았다가 주기적으로 반영
      */
-    @Transactional
-    public PostGetResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> NotFoundException.post(postId));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostGetResponse getPost(Long postId, Set<PostField> fields) {
+        boolean all = fields.containsAll(EnumSet.allOf(PostField.class));
+        CachedPostDetail detail = all
+                ? postDetailCache.get(postId, () -> readOnlyTransactionTemplate.execute(status -> loadPost(postId)))
+                : postDetailCache.getIfPresent(postId).orElse(null);
+
+        if (detail == null) {
+            PostGetResponse response = readOnlyTransactionTemplate.execute(status -> loadPost(postId, fields));
+            viewCountBuffer.increment(postId);
+            trendingBoard.recordView(postId, response.getTags());
+            return response;
+        }
 
         // 조회수 증가
-        postRepository.incrementViewCount(postId);
+        viewCountBuffer.increment(postId);
+        detail.recordView();
+        trendingBoard.recordView(postId, detail.getTags());
+
+        return all ? detail.toResponse() : detail.toResponse().select(fields);
+    }
+
+    /**
+     * 연관 게시글 (태그가 많이 겹치는 순)
+     * - 메모리 색인(RelatedPostIndex)만 조회하므로 트랜잭션 없음
+     * - 색인에 없거나 태그가 없는 게시글은 빈 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PostRelatedGetResponse> getRelatedPosts(Long postId, int size) {
+        return relatedPostIndex.related(postId, Math.max(1, Math.min(size, MAX_RELATED_SIZE))).stream()
+                .map(PostRelatedGetResponse::from)
+                .toList();
+    }
+
+    /**
+     * 게시글 상세 ETag 버전
+     * - 캐시에 있으면 쿼리 없이, 없으면 버전만 조회 (PK 조회 1회)
+     * - 조회수/좋아요 수는 포함하지 않으므로 weak ETag로 응답 (304 응답이면 클라이언트의 이전 값이 유지됨)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long getPostVersion(Long postId) {
+        return postDetailCache.getIfPresent(postId)
+                .map(CachedPostDetail::getVersion)
+                .orElseGet(() -> readOnlyTransactionTemplate.execute(status ->
+                        postRepository.findDetailVersionById(postId)
+                                .orElseThrow(() -> NotFoundException.post(postId))));
+    }
 
-        // 조회수 증가 후 다시 조회하여 최신 조회수 반영
-        post = postRepository.findById(postId)
+    /**
+     * 본문 없이 조회수만 증가 (304 Not Modified 응답)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(Long postId) {
+        viewCountBuffer.increment(postId);
+        postDetailCache.getIfPresent(postId).ifPresent(CachedPostDetail::recordView);
+        trendingBoard.recordView(postId, null);
+    }
+
+    private CachedPostDetail loadPost(Long postId) {
+        Post post = postRepository.findById(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
-        List<String> tags = getTagNames(post);
+        // 태그는 tag_maps JOIN tags 한 번으로 조회 (tagMapList를 따라가면 태그마다 조회)
+        List<String> tags = postRepository.findTagNames(List.of(postId)).getOrDefault(postId, List.of());
 
         // 댓글 조회 (대댓글 포함)
         List<CommentWithRepliesGetResponse> comments = commentRepository.findAllByPostWithChildren(post)
@@ -95,7 +234,66 @@ public class PostService {
                 .map(CommentWithRepliesGetResponse::from)
                 .toList();
 
-        return PostGetResponse.of(post, tags, comments);
+        // 아직 DB에 반영되지 않은 조회수 포함
+        PostGetResponse response = PostGetResponse.of(post, tags, comments);
+        long viewCount = (response.getViewCount() == null ? 0 : response.getViewCount()) + viewCountBuffer.pending(postId);
+        long version = post.getVersion() + post.getBlog().getUser().getVersion();
+        return CachedPostDetail.of(response.withCounts((int) viewCount, response.getLikeCount()), version);
+    }
+
+    // 좋아요 여부는 queryExecutor에서 실행 (큐가 가득 차면 호출 스레드에서 바로 실행)
+    private CompletableFuture<Boolean> submitLikeCheck(String email, Long postId) {
+        Supplier<Boolean> check = () -> readOnlyTransactionTemplate.execute(status -> isLikedBy(email, postId));
+        try {
+            return CompletableFuture.supplyAsync(check, queryExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(check.get());
+        }
+    }
+
+    // 회원은 natural-id(2차 캐시)로 한 번만 조회, 탈퇴 등으로 없으면 좋아요하지 않은 것으로 처리
+    private boolean isLikedBy(String email, Long postId) {
+        return userRepository.findByEmail(email)
+                .map(user -> likeRepository.existsByUserIdAndPostId(user.getId(), postId))
+                .orElse(false);
+    }
+
+    private static boolean join(CompletableFuture<Boolean> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    private static Set<PostField> with(Set<PostField> fields, PostField field) {
+        if (fields.contains(field)) return fields;
+        EnumSet<PostField> added = EnumSet.copyOf(fields);
+        added.add(field);
+        return added;
+    }
+
+    // 요청한 필드만 조회 (댓글은 요청했을 때만, 게시글 엔티티 없이 id로 조회)
+    private PostGetResponse loadPost(Long postId, Set<PostField> fields) {
+        PostGetResponse response = postRepository.findDetail(postId, fields)
+                .orElseThrow(() -> NotFoundException.post(postId));
+
+        if (fields.contains(PostField.COMMENTS)) {
+            List<CommentWithRepliesGetResponse> comments = commentRepository.findAllByPostWithChildren(postRepository.getReferenceById(postId))
+                    .stream()
+                    .map(CommentWithRepliesGetResponse::from)
+                    .toList();
+            response = response.toBuilder().comments(comments).build();
+        }
+
+        // 아직 DB에 반영되지 않은 조회수 포함
+        if (fields.contains(PostField.VIEW_COUNT)) {
+            long viewCount = (response.getViewCount() == null ? 0 : response.getViewCount()) + viewCountBuffer.pending(postId);
+            response = response.withCounts((int) viewCount, response.getLikeCount());
+        }
+        return response;
     }
 
     /**
@@ -117,6 +315,9 @@ public class PostService {
 
         // 태그 저장 (없는 태그는 새로 생성)
         List<String> tagNames = saveTags(savedPost, request.getTags());
+        addUsageCount(tagNames, 1);
+
+        eventPublisher.publishEvent(PostChangedEvent.of(savedPost.getId(), blog.getId(), savedPost.getTitle(), List.of(), tagNames));
 
         return PostGetResponse.of(savedPost, tagNames);
     }
@@ -128,7 +329,8 @@ public class PostService {
      */
     @Transactional
     public PostGetResponse updatePost(Long postId, PostUpdatePutRequest request, String email) {
-        Post post = postRepository.findById(postId)
+        // 태그만 바뀌어도 ETag가 바뀌도록 버전 증가
+        Post post = postRepository.findWithVersionIncrementById(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
         // 권한 검증: Post -> Blog -> User 경로로 작성자 확인
@@ -139,9 +341,16 @@ public class PostService {
         post.update(request.getTitle(), request.getContent());
 
         // 태그 업데이트: 기존 매핑 삭제 후 새로 저장
+        List<String> beforeTagNames = getTagNames(post);
         tagMapRepository.deleteAllByPost(post);
         List<String> tagNames = saveTags(post, request.getTags());
 
+        // 태그별 게시글 수는 빠진/추가된 태그만 증감
+        addUsageCount(beforeTagNames.stream().filter(tag -> !tagNames.contains(tag)).toList(), -1);
+        addUsageCount(tagNames.stream().filter(tag -> !beforeTagNames.contains(tag)).toList(), 1);
+
+        eventPublisher.publishEvent(PostChangedEvent.of(postId, post.getBlog().getId(), post.getTitle(), beforeTagNames, tagNames));
+
         return PostGetResponse.of(post, tagNames);
     }
 
@@ -159,13 +368,18 @@ public class PostService {
             throw ForbiddenException.postDelete();
         }
 
+        List<String> tagNames = getTagNames(post);
+
         // 연관 데이터 먼저 삭제 (FK 제약조건 때문)
         commentRepository.deleteAllByPostId(postId);
         likeRepository.deleteAllByPostId(postId);
         tagMapRepository.deleteAllByPostId(postId);
+        addUsageCount(tagNames, -1);
 
         // Post 삭제
         postRepository.delete(post);
+
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId, post.getBlog().getId(), tagNames));
     }
 
     /**
@@ -178,6 +392,15 @@ public class PostService {
                 .toList();
     }
 
+    /**
+     * 태그별 게시글 수 증감
+     * - 남은 게시글이 없어진 태그는 OrphanTagCleaner가 정리
+     */
+    private void addUsageCount(List<String> tagNames, long delta) {
+        if (tagNames.isEmpty()) return;
+        tagUsageRepository.addUsageCount(Set.copyOf(tagNames), delta);
+    }
+
     /**
      * 태그 저장 (없으면 생성)
      * - 이미 존재하는 태그면 재사용
@@ -193,7 +416,7 @@ public class PostService {
                 .map(tagName -> {
                     // 태그 조회 또는 생성 (정적 팩토리 메서드 사용)
                     Tag tag = tagRepository.findByTitle(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.of(tagName)));
+                            .orElseGet(() -> createTag(tagName));
 
                     // Post-Tag 매핑 생성 (정적 팩토리 메서드 사용)
                     TagMap tagMap = TagMap.of(post, tag);
@@ -203,4 +426,11 @@ public class PostService {
                 })
                 .toList();
     }
+
+    // 새 태그는 게시글 수 카운터(0)와 함께 생성 (카운터는 addUsageCount로 증가)
+    private Tag createTag(String tagName) {
+        Tag tag = tagRepository.save(Tag.of(tagName));
+        tagUsageRepository.save(TagUsage.of(tag));
+        return tag;
+    }
 }
\ No newline at end of file
@@ -1,10 +1,20 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.PopularTagCache;
 import com.likelion.vlog.dto.tags.TagGetResponse;
+import com.likelion.vlog.dto.tags.TagPopularGetResponse;
+import com.likelion.vlog.entity.Tag;
 import com.likelion.vlog.repository.TagRepository;
+import com.likelion.vlog.repository.TagUsageRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @Service
@@ -12,8 +22,34 @@ import org.springframework.transaction.annotation.Transactional;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagUsageRepository tagUsageRepository;
+    private final PopularTagCache popularTagCache;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    /**
+     * 태그 ETag 버전 (태그는 변경되지 않으므로 ID 사용, 없으면 null)
+     */
+    public Long getTagVersion(String tagName) {
+        return tagRepository.findByTitle(tagName)
+                .map(Tag::getId)
+                .orElse(null);
+    }
 
     public TagGetResponse getTag (String tagName){
         return TagGetResponse.from(tagRepository.findByTitle(tagName).orElse(null));
     }
+
+    /**
+     * 인기 태그 목록 (게시글 수 많은 순)
+     * - size는 1 ~ max-count 로 보정
+     * - 캐시 hit 시 트랜잭션/커넥션 없이 반환 (NOT_SUPPORTED)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TagPopularGetResponse> getPopularTags(int size) {
+        int maxCount = popularTagCache.getMaxCount();
+        int limit = Math.max(1, Math.min(size, maxCount));
+        return popularTagCache.get(limit, () -> readOnlyTransactionTemplate.execute(status ->
+                tagUsageRepository.findPopular(PageRequest.of(0, maxCount))));
+    }
 }
@@ -4,11 +4,13 @@ import com.likelion.vlog.dto.users.UserGetResponse;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
 
 import com.likelion.vlog.entity.User;
+import com.likelion.vlog.event.UserChangedEvent;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.InvalidCredentialsException;
 import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +25,9 @@ public class UserService {
     private final LikeRepository likeRepository;
     private final FollowRepository followRepository;
     private final TagMapRepository tagMapRepository;
+    private final TagUsageRepository tagUsageRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserGetResponse getUser(Long userId){
         User user = userRepository.findById(userId)
@@ -31,6 +35,15 @@ public class UserService {
         return UserGetResponse.of(user);
     }
 
+    /**
+     * 회원정보 ETag 버전 (User는 2차 캐시 대상이라 대부분 쿼리 없이 조회)
+     */
+    public Long getUserVersion(Long userId) {
+        return userRepository.findById(userId)
+                .map(User::getVersion)
+                .orElseThrow(() -> NotFoundException.user(userId));
+    }
+
     @Transactional
     public UserGetResponse updateUser(Long userId, UserUpdateRequest userUpdateRequest, String email) {
         User user = userRepository.findById(userId)
@@ -41,9 +54,15 @@ public class UserService {
             throw ForbiddenException.userUpdate();
         }
 
+        String previousNickname = user.getNickname();
         user.upDateInfo(userUpdateRequest, passwordEncoder);
 
         userRepository.save(user);
+        // 다른 사람 게시글에 단 댓글의 작성자 표시가 바뀜
+        if (!previousNickname.equals(user.getNickname())) {
+            postRepository.incrementVersionByCommenterId(userId);
+        }
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId(), blogIdOf(user), previousNickname, user.getNickname()));
         return UserGetResponse.of(user);
     }
 
@@ -73,13 +92,20 @@ public class UserService {
             throw InvalidCredentialsException.password();
         }
 
+        // 다른 사람 게시글에 단 댓글이 사라지므로 삭제 전에 해당 게시글 버전 증가
+        postRepository.incrementVersionByCommenterId(userId);
         deleteRelationship(userId);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user.getId(), blogIdOf(user), user.getNickname()));
 
         // 4-5단계: Blog은 cascade=ALL이므로 User 삭제 시 자동 삭제됨
         userRepository.delete(user);
     }
 
 
+    private Long blogIdOf(User user) {
+        return user.getBlog() != null ? user.getBlog().getId() : null;
+    }
+
     private void deleteRelationship(Long userId) {
         // 1단계: User가 직접 작성/생성한 것들 삭제
         commentRepository.deleteAllByUserId(userId);           // 내가 쓴 댓글
@@ -89,6 +115,7 @@ public class UserService {
         // 2단계: User의 Blog에 속한 Post들의 연관 데이터 삭제
         commentRepository.deleteAllByPostBlogUserId(userId);   // 내 게시글의 댓글들
         likeRepository.deleteAllByPostBlogUserId(userId);      // 내 게시글의 좋아요들
+        tagUsageRepository.subtractUsageCountByUserId(userId); // 내 게시글의 태그별 게시글 수
         tagMapRepository.deleteAllByPostBlogUserId(userId);    // 내 게시글의 태그들
         // 3단계: User의 Blog에 속한 Post들 삭제
         postRepository.deleteAllByBlogUserId(userId);
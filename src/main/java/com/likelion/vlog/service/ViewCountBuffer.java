@@ -0,0 +1,64 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 write-behind 버퍼
+ * - 상세 조회마다 UPDATE 하지 않고 메모리에 모았다가 주기적으로 한 트랜잭션에서 반영
+ * - 반영 실패 시 다음 주기에 다시 시도, 종료 시 남은 값 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${vlog.post.view-count.flush-interval:5s}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postId : pending.keySet()) {
+            Long delta = pending.remove(postId);
+            if (delta != null) deltas.put(postId, delta);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach(postRepository::addViewCount));
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            deltas.forEach((postId, delta) -> pending.merge(postId, delta, Long::sum));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,66 @@
+package com.likelion.vlog.trending;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * 점수 상위 K개 게시글 (크기 상한이 있는 정렬 집합)
+ * - 점수가 바뀔 항목은 먼저 remove() 한 뒤 점수를 바꾸고 offer() (정렬 키가 바뀌면 집합이 깨짐)
+ * - 동기화는 TrendingBoard가 담당
+ */
+final class TopK {
+
+    // 점수 높은 순, 동점이면 최신 글(post_id 큰 순)
+    static final Comparator<TrendingEntry> ORDER = Comparator
+            .comparingDouble(TrendingEntry::getScore).reversed()
+            .thenComparing(TrendingEntry::getPostId, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final TreeSet<TrendingEntry> ranked = new TreeSet<>(ORDER);
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 상위 K에 들면 추가하고, 넘치면 최하위를 밀어냄
+     */
+    void offer(TrendingEntry entry) {
+        if (ranked.size() < capacity) {
+            ranked.add(entry);
+        } else if (ORDER.compare(entry, ranked.last()) < 0) {
+            ranked.pollLast();
+            ranked.add(entry);
+        }
+    }
+
+    boolean remove(TrendingEntry entry) {
+        return ranked.remove(entry);
+    }
+
+    /**
+     * 후보 전체에서 다시 채움 (삭제로 빈자리가 생겼거나 점수를 일괄 조정한 뒤)
+     */
+    void rebuild(Stream<TrendingEntry> candidates) {
+        clear();
+        candidates.forEach(this::offer);
+    }
+
+    void clear() {
+        ranked.clear();
+    }
+
+    boolean isEmpty() {
+        return ranked.isEmpty();
+    }
+
+    Stream<TrendingEntry> stream() {
+        return ranked.stream();
+    }
+
+    List<Long> postIds() {
+        return ranked.stream().map(TrendingEntry::getPostId).toList();
+    }
+}
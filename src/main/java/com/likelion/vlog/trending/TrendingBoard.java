@@ -0,0 +1,194 @@
+package com.likelion.vlog.trending;
+
+import com.likelion.vlog.event.CommentChangedEvent;
+import com.likelion.vlog.event.LikeChangedEvent;
+import com.likelion.vlog.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌딩 게시글 순위 (인스턴스 메모리)
+ * - 조회/좋아요/댓글마다 가중치만큼 점수를 더하고, 점수는 반감기(half-life)마다 절반으로 감쇠
+ * - 감쇠는 모든 게시글에 똑같이 적용되므로 점수를 기준 시각(epoch) 값으로 환산해 저장하고 순위 비교에 그대로 사용
+ *   (이벤트 시각 t의 가중치 w -> w * e^(λ(t - epoch)), 주기적으로 epoch를 옮기며 전체를 같은 비율로 축소)
+ * - 전체/태그별 상위 K개를 유지하므로 조회는 O(K), DB 정렬 없음
+ * - 좋아요 취소, 댓글 수정/삭제는 점수에 반영하지 않음 (감쇠로 자연히 줄어듦)
+ * - 인스턴스마다 자기가 받은 이벤트만 반영 (재시작 시 TrendingBootstrap이 최근 게시글로 초기화)
+ */
+@Component
+public class TrendingBoard {
+
+    private final double decayPerMilli;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double minScore;
+    private final int capacity;
+
+    private final Map<Long, TrendingEntry> entries = new HashMap<>();
+    private final TopK global;
+    private final Map<String, TopK> byTag = new HashMap<>();
+    private long epochMillis = System.currentTimeMillis();
+
+    public TrendingBoard(
+            @Value("${vlog.trending.half-life:12h}") Duration halfLife,
+            @Value("${vlog.trending.top-k:100}") int capacity,
+            @Value("${vlog.trending.weight.view:1}") double viewWeight,
+            @Value("${vlog.trending.weight.like:5}") double likeWeight,
+            @Value("${vlog.trending.weight.comment:10}") double commentWeight,
+            @Value("${vlog.trending.min-score:0.05}") double minScore) {
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.capacity = capacity;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.minScore = minScore;
+        this.global = new TopK(capacity);
+    }
+
+    /**
+     * 조회 1회 반영 (tags가 null이면 기존 태그 유지)
+     */
+    public void recordView(Long postId, Collection<String> tags) {
+        record(postId, tags, viewWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * 과거 시점의 활동을 한꺼번에 반영 (재시작 시 초기화용)
+     */
+    public void restore(Long postId, Collection<String> tags, long views, long likes, long comments, long atMillis) {
+        record(postId, tags, views * viewWeight + likes * likeWeight + comments * commentWeight, atMillis);
+    }
+
+    /**
+     * 트렌딩 순 게시글 id (최대 K개, 여러 태그면 태그별 상위 K의 합집합)
+     * - tags가 비어 있으면 전체 순위
+     */
+    public synchronized List<Long> top(Collection<String> tags) {
+        Set<String> keys = normalize(tags);
+        if (keys.isEmpty()) return global.postIds();
+        if (keys.size() == 1) {
+            TopK ranking = byTag.get(keys.iterator().next());
+            return ranking == null ? List.of() : ranking.postIds();
+        }
+        return keys.stream()
+                .map(byTag::get)
+                .filter(Objects::nonNull)
+                .flatMap(TopK::stream)
+                .distinct()
+                .sorted(TopK.ORDER)
+                .map(TrendingEntry::getPostId)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (event.isAdded()) record(event.getPostId(), null, likeWeight, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.isCreated()) record(event.getPostId(), null, commentWeight, System.currentTimeMillis());
+    }
+
+    // 새 글/태그 수정은 태그만 반영 (이후 좋아요/댓글이 태그별 순위에도 들어가도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getPostId());
+        } else {
+            record(event.getPostId(), event.getCurrentTags(), 0, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고 전체 점수를 같은 비율로 축소 (환산 점수가 계속 커지지 않도록)
+     * - 충분히 감쇠한 게시글은 추적 대상에서 제외
+     */
+    @Scheduled(fixedDelayString = "${vlog.trending.rebase-interval:1h}")
+    public synchronized void rebase() {
+        long now = System.currentTimeMillis();
+        double factor = Math.exp(-decayPerMilli * (now - epochMillis));
+        epochMillis = now;
+
+        entries.values().forEach(entry -> entry.scale(factor));
+        entries.values().removeIf(entry -> entry.getScore() < minScore);
+
+        // 부동소수점 오차로 순서가 바뀔 수 있으므로 정렬 집합은 새로 구성
+        global.clear();
+        byTag.clear();
+        entries.values().forEach(entry -> rankingsOf(entry, true).forEach(ranking -> ranking.offer(entry)));
+    }
+
+    private synchronized void record(Long postId, Collection<String> tags, double points, long atMillis) {
+        TrendingEntry entry = entries.computeIfAbsent(postId, id -> new TrendingEntry(id, null));
+        List<TopK> before = rankingsOf(entry, false);
+        before.forEach(ranking -> ranking.remove(entry));
+
+        Set<String> oldTags = entry.getTags();
+        if (tags != null) {
+            Set<String> newTags = normalize(tags);
+            if (!newTags.equals(oldTags)) entry.changeTags(newTags);
+        }
+        entry.add(points * Math.exp(decayPerMilli * (atMillis - epochMillis)));
+        rankingsOf(entry, true).forEach(ranking -> ranking.offer(entry));
+
+        // 빠진 태그의 순위는 빈자리를 다시 채움
+        if (oldTags != null && entry.getTags() != oldTags) {
+            oldTags.stream()
+                    .filter(tag -> !entry.getTags().contains(tag))
+                    .forEach(this::rebuildTag);
+        }
+    }
+
+    private synchronized void remove(Long postId) {
+        TrendingEntry entry = entries.remove(postId);
+        if (entry == null) return;
+        if (global.remove(entry)) global.rebuild(entries.values().stream());
+        if (entry.getTags() != null) entry.getTags().forEach(this::rebuildTag);
+    }
+
+    private void rebuildTag(String tag) {
+        TopK ranking = byTag.get(tag);
+        if (ranking == null) return;
+        ranking.rebuild(entries.values().stream()
+                .filter(entry -> entry.getTags() != null && entry.getTags().contains(tag)));
+        if (ranking.isEmpty()) byTag.remove(tag);
+    }
+
+    // 항목이 속하는 순위 목록 (전체 + 태그별)
+    private List<TopK> rankingsOf(TrendingEntry entry, boolean create) {
+        List<TopK> rankings = new ArrayList<>();
+        rankings.add(global);
+        if (entry.getTags() == null) return rankings;
+        for (String tag : entry.getTags()) {
+            TopK ranking = create ? byTag.computeIfAbsent(tag, key -> new TopK(capacity)) : byTag.get(tag);
+            if (ranking != null) rankings.add(ranking);
+        }
+        return rankings;
+    }
+
+    // 태그는 대소문자 무시 (MySQL 기본 collation)
+    private static Set<String> normalize(Collection<String> tags) {
+        if (tags == null) return Set.of();
+        return tags.stream()
+                .filter(Objects::nonNull)
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,118 @@
+package com.likelion.vlog.trending;
+
+import com.likelion.vlog.entity.QComment;
+import com.likelion.vlog.entity.QPost;
+import com.likelion.vlog.entity.QTag;
+import com.likelion.vlog.entity.QTagMap;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시 트렌딩 순위 초기화
+ * - 최근 window 안에 작성된 게시글(최대 max-posts건)의 조회수/좋아요 수/댓글 수를 작성 시각의 활동으로 보고 반영
+ * - 이후로는 이벤트로만 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingBootstrap {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final TrendingBoard trendingBoard;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${vlog.trending.bootstrap.window:7d}")
+    private Duration window;
+
+    @Value("${vlog.trending.bootstrap.max-posts:10000}")
+    private int maxPosts;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        int loaded = readOnlyTransactionTemplate.execute(status -> restoreRecentPosts());
+        log.info("트렌딩 초기화: 게시글 {}건, {}ms", loaded, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int restoreRecentPosts() {
+        QPost post = QPost.post;
+        List<Tuple> posts = jpaQueryFactory
+                .select(post.id, post.createdAt, post.viewCount, post.likeCount)
+                .from(post)
+                .where(post.createdAt.goe(LocalDateTime.now().minus(window)))
+                .orderBy(post.createdAt.desc())
+                .limit(maxPosts)
+                .fetch();
+
+        List<Long> ids = posts.stream().map(tuple -> tuple.get(post.id)).toList();
+        Map<Long, Long> comments = new HashMap<>();
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            comments.putAll(countComments(chunk));
+            findTags(chunk).forEach((postId, titles) -> tags.put(postId, titles));
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        for (Tuple row : posts) {
+            Long postId = row.get(post.id);
+            trendingBoard.restore(postId,
+                    tags.getOrDefault(postId, List.of()),
+                    nullToZero(row.get(post.viewCount)),
+                    nullToZero(row.get(post.likeCount)),
+                    comments.getOrDefault(postId, 0L),
+                    row.get(post.createdAt).atZone(zone).toInstant().toEpochMilli());
+        }
+        return posts.size();
+    }
+
+    private Map<Long, Long> countComments(List<Long> postIds) {
+        QComment comment = QComment.comment;
+        Map<Long, Long> counts = new HashMap<>();
+        jpaQueryFactory
+                .select(comment.post.id, comment.count())
+                .from(comment)
+                .where(comment.post.id.in(postIds))
+                .groupBy(comment.post.id)
+                .fetch()
+                .forEach(row -> counts.put(row.get(comment.post.id), row.get(comment.count())));
+        return counts;
+    }
+
+    private Map<Long, List<String>> findTags(List<Long> postIds) {
+        QTagMap tagMap = QTagMap.tagMap;
+        QTag tag = QTag.tag;
+        Map<Long, List<String>> tags = new HashMap<>();
+        jpaQueryFactory
+                .select(tagMap.post.id, tag.title)
+                .from(tagMap)
+                .join(tagMap.tag, tag)
+                .where(tagMap.post.id.in(postIds))
+                .fetch()
+                .forEach(row -> tags.computeIfAbsent(row.get(tagMap.post.id), id -> new ArrayList<>()).add(row.get(tag.title)));
+        return tags;
+    }
+
+    private static long nullToZero(Number value) {
+        return value == null ? 0L : value.longValue();
+    }
+}
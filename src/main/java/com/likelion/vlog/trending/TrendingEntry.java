@@ -0,0 +1,35 @@
+package com.likelion.vlog.trending;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 게시글별 트렌딩 점수
+ * - score: 기준 시각(epoch)으로 환산한 누적 점수 (감쇠는 모든 항목에 똑같이 적용되므로 순위 비교에 그대로 사용)
+ * - tags: 소문자 태그 (태그별 순위 갱신용)
+ */
+@Getter
+final class TrendingEntry {
+
+    private final Long postId;
+    private double score;
+    private Set<String> tags;
+
+    TrendingEntry(Long postId, Set<String> tags) {
+        this.postId = postId;
+        this.tags = tags;
+    }
+
+    void add(double amount) {
+        score += amount;
+    }
+
+    void scale(double factor) {
+        score *= factor;
+    }
+
+    void changeTags(Set<String> tags) {
+        this.tags = tags;
+    }
+}
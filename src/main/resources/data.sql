@@ -1,4 +1,5 @@
 -- 대용량 테스트 데이터 초기화 스크립트
+-- MySQL 수동 실행용 (스키마 생성 후 실행, 자동 실행되지 않음)
 -- 비밀번호: {noop}test1234 (평문: test1234)
 
 -- 1. 사용자 데이터 (20명)
@@ -623,4 +624,19 @@ INSERT INTO follows (follow_id, follower_id, following_id, created_at, updated_a
 -- User 19의 팔로우
 (91, 19, 9, NOW(), NOW()), (92, 19, 11, NOW(), NOW()), (93, 19, 15, NOW(), NOW()), (94, 19, 20, NOW(), NOW()), (95, 19, 8, NOW(), NOW()),
 -- User 20의 팔로우
-(96, 20, 10, NOW(), NOW()), (97, 20, 12, NOW(), NOW()), (98, 20, 16, NOW(), NOW()), (99, 20, 1, NOW(), NOW()), (100, 20, 9, NOW(), NOW());
\ No newline at end of file
+(96, 20, 10, NOW(), NOW()), (97, 20, 12, NOW(), NOW()), (98, 20, 16, NOW(), NOW()), (99, 20, 1, NOW(), NOW()), (100, 20, 9, NOW(), NOW());
+
+-- 9. ID 시퀀스 보정 (pooled-lo 시퀀스 테이블을 위 데이터의 최대 ID 다음 값으로 이동)
+-- MySQL은 시퀀스가 없어 *_seq 테이블을 사용 (H2는 네이티브 시퀀스라 ALTER SEQUENCE users_seq RESTART WITH 21 형태로 보정)
+UPDATE users_seq SET next_val = 21;
+UPDATE blogs_seq SET next_val = 21;
+UPDATE tags_seq SET next_val = 31;
+UPDATE posts_seq SET next_val = 101;
+UPDATE tag_maps_seq SET next_val = 122;
+UPDATE comments_seq SET next_val = 201;
+UPDATE likes_seq SET next_val = 301;
+UPDATE follows_seq SET next_val = 101;
+
+-- 10. 태그별 게시글 수 (tag_maps 기준)
+INSERT INTO tag_usage_counts (tag_id, usage_count)
+SELECT t.tag_id, COUNT(tm.tag_map_id) FROM tags t LEFT JOIN tag_maps tm ON tm.tag_id = t.tag_id GROUP BY t.tag_id;
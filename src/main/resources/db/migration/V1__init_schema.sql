@@ -0,0 +1,97 @@
+-- 초기 스키마 (ddl-auto 로 생성되던 기존 운영 스키마와 동일)
+-- 기존 운영 DB는 baseline-on-migrate 로 이 버전을 건너뜀
+
+CREATE TABLE users (
+    user_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    nickname   VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email),
+    CONSTRAINT UK2ty1xmrrgtn89xt7kyxx6ta7h UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE blogs (
+    blog_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (blog_id),
+    CONSTRAINT UKc4kfnl4bgtgmkmhnb1yxrmi23 UNIQUE (user_id),
+    CONSTRAINT FKpg4damav6db6a6fh5peylcni5 FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE posts (
+    post_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    blog_id    BIGINT,
+    title      VARCHAR(255),
+    content    MEDIUMTEXT,
+    view_count INTEGER,
+    like_count INTEGER,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (post_id),
+    CONSTRAINT FK46hamw7vkqcug68icapbki4v2 FOREIGN KEY (blog_id) REFERENCES blogs (blog_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tags (
+    tag_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (tag_id),
+    CONSTRAINT UKasl77numc3xbnbf7d60rw3xjq UNIQUE (title)
+) ENGINE = InnoDB;
+
+CREATE TABLE tag_maps (
+    tag_map_id BIGINT NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT NOT NULL,
+    tag_id     BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (tag_map_id),
+    CONSTRAINT unique_post_tag UNIQUE (post_id, tag_id),
+    CONSTRAINT FK7rore1t9odjnpenbl2ewraie FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT FK9lql9316siy5c10exhwhfjabj FOREIGN KEY (tag_id) REFERENCES tags (tag_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    comment_id BIGINT NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    parent_id  BIGINT,
+    content    VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (comment_id),
+    CONSTRAINT FKlri30okf66phtcgbe5pok7cc0 FOREIGN KEY (parent_id) REFERENCES comments (comment_id),
+    CONSTRAINT FKh4c7lvsc298whoyd4w9ta25cr FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT FK8omq0tc18jd43bu5tjh6jvraq FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE likes (
+    like_id    BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    post_id    BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (like_id),
+    CONSTRAINT unique_user_post UNIQUE (user_id, post_id),
+    CONSTRAINT FKry8tnr4x2vwemv2bb0h5hyl0x FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT FKnvx9seeqqyy71bij291pwiwrg FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE follows (
+    follow_id    BIGINT NOT NULL AUTO_INCREMENT,
+    follower_id  BIGINT NOT NULL,
+    following_id BIGINT NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (follow_id),
+    CONSTRAINT unique_follower_following UNIQUE (follower_id, following_id),
+    CONSTRAINT FKqnkw0cwwh6572nyhvdjqlr163 FOREIGN KEY (follower_id) REFERENCES users (user_id),
+    CONSTRAINT FKonkdkae2ngtx70jqhsh7ol6uq FOREIGN KEY (following_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
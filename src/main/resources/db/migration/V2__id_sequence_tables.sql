@@ -0,0 +1,26 @@
+-- pooled-lo 시퀀스 테이블 (MySQL은 시퀀스가 없어 Hibernate가 *_seq 테이블 사용)
+-- next_val은 기존 데이터의 MAX(id) + 1 에서 시작
+
+CREATE TABLE users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq SELECT COALESCE(MAX(user_id), 0) + 1 FROM users;
+
+CREATE TABLE blogs_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO blogs_seq SELECT COALESCE(MAX(blog_id), 0) + 1 FROM blogs;
+
+CREATE TABLE posts_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO posts_seq SELECT COALESCE(MAX(post_id), 0) + 1 FROM posts;
+
+CREATE TABLE tags_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO tags_seq SELECT COALESCE(MAX(tag_id), 0) + 1 FROM tags;
+
+CREATE TABLE tag_maps_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO tag_maps_seq SELECT COALESCE(MAX(tag_map_id), 0) + 1 FROM tag_maps;
+
+CREATE TABLE comments_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO comments_seq SELECT COALESCE(MAX(comment_id), 0) + 1 FROM comments;
+
+CREATE TABLE likes_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO likes_seq SELECT COALESCE(MAX(like_id), 0) + 1 FROM likes;
+
+CREATE TABLE follows_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO follows_seq SELECT COALESCE(MAX(follow_id), 0) + 1 FROM follows;
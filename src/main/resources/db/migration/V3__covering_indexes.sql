@@ -0,0 +1,27 @@
+-- 게시글 목록 정렬/필터 조합별 복합 인덱스
+-- 정렬: SortField(VIEW, LIKE, CREATED_AT, UPDATED_AT) + post_id (동순위 정렬)
+-- 필터: 없음 / blog_id
+-- (InnoDB 보조 인덱스는 PK를 포함하므로 ids-first 1단계 조회는 인덱스만으로 처리됨)
+
+CREATE INDEX ix_posts_created_at      ON posts (created_at, post_id);
+CREATE INDEX ix_posts_updated_at      ON posts (updated_at, post_id);
+CREATE INDEX ix_posts_view_count      ON posts (view_count, post_id);
+CREATE INDEX ix_posts_like_count      ON posts (like_count, post_id);
+
+CREATE INDEX ix_posts_blog_created_at ON posts (blog_id, created_at, post_id);
+CREATE INDEX ix_posts_blog_updated_at ON posts (blog_id, updated_at, post_id);
+CREATE INDEX ix_posts_blog_view_count ON posts (blog_id, view_count, post_id);
+CREATE INDEX ix_posts_blog_like_count ON posts (blog_id, like_count, post_id);
+
+-- 태그 필터 (tag -> post 방향, hasAllTags의 GROUP BY post_id)
+-- post -> tag 방향은 unique_post_tag (post_id, tag_id)가 담당
+CREATE INDEX ix_tag_maps_tag_post     ON tag_maps (tag_id, post_id);
+
+-- 게시글 상세의 댓글 조회 (post_id + parent IS NULL + created_at 정렬)
+CREATE INDEX ix_comments_post_parent_created_at ON comments (post_id, parent_id, created_at);
+
+-- 좋아요 수 집계 (post_id 별 COUNT), 사용자 여부는 unique_user_post (user_id, post_id)가 담당
+CREATE INDEX ix_likes_post_user       ON likes (post_id, user_id);
+
+-- 팔로워 목록 (following_id 기준), 팔로잉 목록은 unique_follower_following가 담당
+CREATE INDEX ix_follows_following_follower ON follows (following_id, follower_id);
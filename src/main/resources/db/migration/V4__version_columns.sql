@@ -0,0 +1,6 @@
+-- 조건부 GET(ETag)용 버전 컬럼 (@Version)
+-- posts.version: 본문/태그 수정, 댓글 변경 시 증가 (조회수/좋아요 수 변경은 제외)
+-- users.version: 닉네임/비밀번호 수정 시 증가
+
+ALTER TABLE posts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- 태그별 게시글 수 (인기 태그 조회용, 게시글 작성/수정/삭제 시 증감)
+-- tags는 2차 캐시 대상이라 카운터는 별도 테이블에 둠 (tags에 bulk UPDATE를 하면 tags/natural-id 캐시 영역 전체가 비워짐)
+-- 기존 데이터는 tag_maps 기준으로 채우고, 0인 태그는 OrphanTagCleaner가 주기적으로 삭제
+
+CREATE TABLE tag_usage_counts (
+    tag_id      BIGINT NOT NULL,
+    usage_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (tag_id),
+    CONSTRAINT fk_tag_usage_counts_tag FOREIGN KEY (tag_id) REFERENCES tags (tag_id)
+) ENGINE = InnoDB;
+
+INSERT INTO tag_usage_counts (tag_id, usage_count)
+SELECT t.tag_id, (SELECT COUNT(*) FROM tag_maps tm WHERE tm.tag_id = t.tag_id)
+FROM tags t;
+
+-- 인기 태그 상위 N개 (usage_count DESC, tag_id DESC)
+CREATE INDEX ix_tag_usage_counts_usage_count ON tag_usage_counts (usage_count, tag_id);
@@ -0,0 +1,147 @@
+package com.likelion.vlog.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PrefixTrie (스프링 없이)
+ * - 간선 중간에서 끝나는/갈라지는 접두사, 교체/삭제 후 상위 후보 갱신
+ * - 임의 키 집합에서 모든 접두사의 결과를 단순 정렬(필터 + 정렬 + limit)과 비교
+ */
+class PrefixTrieTest {
+
+    private static final int CAPACITY = 3;
+
+    @Test
+    void topIsOrderedByScoreThenLengthThenText() {
+        PrefixTrie trie = new PrefixTrie(CAPACITY);
+        put(trie, "spring", 5);
+        put(trie, "springboot", 5);
+        put(trie, "spa", 5);
+        put(trie, "sql", 9);
+
+        assertThat(texts(trie.top("s"))).containsExactly("sql", "spa", "spring");
+        assertThat(texts(trie.top("sp"))).containsExactly("spa", "spring", "springboot");
+    }
+
+    @Test
+    void prefixEndingInsideAnEdgeMatchesTheSubtree() {
+        PrefixTrie trie = new PrefixTrie(CAPACITY);
+        put(trie, "kotlin", 1);
+        put(trie, "kotlinx", 2);
+
+        assertThat(texts(trie.top("kot"))).containsExactly("kotlinx", "kotlin");
+        assertThat(texts(trie.top("kotlinx"))).containsExactly("kotlinx");
+        assertThat(trie.top("kox")).isEmpty();
+        assertThat(trie.top("kotlinxx")).isEmpty();
+        assertThat(trie.top("java")).isEmpty();
+    }
+
+    @Test
+    void putReplacesTheSameText() {
+        PrefixTrie trie = new PrefixTrie(CAPACITY);
+        put(trie, "java", 1);
+        put(trie, "jpa", 2);
+
+        put(trie, "java", 3);
+
+        assertThat(texts(trie.top("j"))).containsExactly("java", "jpa");
+        assertThat(trie.size()).isEqualTo(2);
+
+        // 같은 text를 다른 키로 (닉네임 변경 등)
+        trie.put("ruby", new Suggestion(1L, "java", 3));
+        assertThat(texts(trie.top("j"))).containsExactly("jpa");
+        assertThat(texts(trie.top("r"))).containsExactly("java");
+    }
+
+    @Test
+    void removeRefillsTopsAlongThePath() {
+        PrefixTrie trie = new PrefixTrie(2);
+        put(trie, "react", 9);
+        put(trie, "redis", 8);
+        put(trie, "rest", 7);
+
+        trie.remove("react");
+
+        assertThat(texts(trie.top("re"))).containsExactly("redis", "rest");
+        assertThat(trie.top("rea")).isEmpty();
+        assertThat(trie.get("react")).isNull();
+        assertThat(trie.get("redis").score()).isEqualTo(8);
+    }
+
+    @Test
+    void textsSharingAKeyAreKeptApart() {
+        PrefixTrie trie = new PrefixTrie(CAPACITY);
+        trie.put("spring", new Suggestion(1L, "Spring", 1));
+        trie.put("spring", new Suggestion(2L, "spring", 2));
+
+        trie.remove("spring");
+
+        assertThat(texts(trie.top("spr"))).containsExactly("Spring");
+    }
+
+    @Test
+    void matchesBruteForceForEveryPrefix() {
+        Random random = new Random(42);
+        Map<String, Long> scores = new TreeMap<>();
+        IntStream.range(0, 300).forEach(i -> scores.put(randomKey(random), (long) random.nextInt(20)));
+
+        PrefixTrie incremental = new PrefixTrie(CAPACITY);
+        scores.forEach((key, score) -> put(incremental, key, score));
+        PrefixTrie bulk = new PrefixTrie(CAPACITY);
+        bulk.putAll(scores.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), new Suggestion(null, e.getKey(), e.getValue())))
+                .toList());
+
+        // 일부 삭제/점수 변경 후에도 같아야 함
+        List<String> keys = new ArrayList<>(scores.keySet());
+        for (int i = 0; i < keys.size(); i += 3) {
+            incremental.remove(keys.get(i));
+            bulk.remove(keys.get(i));
+            scores.remove(keys.get(i));
+        }
+        for (int i = 1; i < keys.size(); i += 7) {
+            put(incremental, keys.get(i), 100 + i);
+            put(bulk, keys.get(i), 100 + i);
+            scores.put(keys.get(i), 100L + i);
+        }
+
+        for (String key : keys) {
+            for (int length = 0; length <= key.length() + 1; length++) {
+                String prefix = length <= key.length() ? key.substring(0, length) : key + "a";
+                List<Suggestion> expected = scores.entrySet().stream()
+                        .filter(e -> e.getKey().startsWith(prefix))
+                        .map(e -> new Suggestion(null, e.getKey(), e.getValue()))
+                        .sorted(PrefixTrie.ORDER)
+                        .limit(CAPACITY)
+                        .toList();
+                assertThat(incremental.top(prefix)).as(prefix).isEqualTo(expected);
+                assertThat(bulk.top(prefix)).as(prefix).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static void put(PrefixTrie trie, String text, long score) {
+        trie.put(text, new Suggestion(null, text, score));
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+
+    // 공유 접두사가 많도록 작은 알파벳의 짧은 키
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) key.append("abc".charAt(random.nextInt(3)));
+        return key.toString();
+    }
+}
@@ -0,0 +1,181 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import com.likelion.vlog.enums.PostField;
+import com.likelion.vlog.enums.SearchFiled;
+import com.likelion.vlog.enums.TagMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostListCacheKey (스프링 없이)
+ * - 같은 결과를 내는 요청은 같은 키, 결과가 다를 수 있는 요청은 다른 키
+ * - isAffectedBy가 false면 그 목록은 무효화되지 않으므로, 결과가 바뀔 수 있는 변경에는 반드시 true
+ *   (변경 이벤트의 태그는 변경 전/후 태그의 합집합)
+ */
+class PostListCacheKeyTest {
+
+    private static final long BLOG = 1L;
+    private static final long OTHER_BLOG = 2L;
+
+    @Test
+    void equivalentRequestsShareAKey() {
+        PostGetRequest a = request();
+        a.setKeyword("  Spring  Boot ");
+        a.setTag(Arrays.asList("jpa", " spring ", "jpa", "", null));
+        a.setBlogId(0L);
+
+        PostGetRequest b = request();
+        b.setKeyword("springboot");
+        b.setTag(List.of("spring", "jpa"));
+
+        assertThat(PostListCacheKey.from(a)).isEqualTo(PostListCacheKey.from(b));
+        assertThat(PostListCacheKey.from(a).getTags()).containsExactly("jpa", "spring");
+        assertThat(PostListCacheKey.from(a).getBlogId()).isNull();
+    }
+
+    @Test
+    void unusedSearchAndTagModeAreDropped() {
+        PostGetRequest a = request();
+        a.setSearch(SearchFiled.NICKNAME);
+        a.setTagMode(TagMode.AND);
+
+        assertThat(PostListCacheKey.from(a)).isEqualTo(PostListCacheKey.from(request()));
+
+        PostGetRequest b = request();
+        b.setKeyword("spring");
+        b.setSearch(SearchFiled.NICKNAME);
+        assertThat(PostListCacheKey.from(b)).isNotEqualTo(PostListCacheKey.from(withKeyword("spring")));
+    }
+
+    @Test
+    void differentResultsGetDifferentKeys() {
+        assertThat(key(TagMode.AND, "spring", "jpa")).isNotEqualTo(key(TagMode.OR, "spring", "jpa"));
+
+        PostGetRequest page2 = request();
+        page2.setPage(2);
+        assertThat(PostListCacheKey.from(page2)).isNotEqualTo(PostListCacheKey.from(request()));
+
+        PostGetRequest titles = request();
+        titles.setFields(List.of(PostField.TITLE));
+        assertThat(PostListCacheKey.from(titles)).isNotEqualTo(PostListCacheKey.from(request()));
+
+        PostGetRequest withoutTotal = request();
+        withoutTotal.setWithTotal(false);
+        assertThat(PostListCacheKey.from(withoutTotal)).isNotEqualTo(PostListCacheKey.from(request()));
+    }
+
+    @Test
+    void facetKeyIgnoresPagingAndSort() {
+        PostGetRequest a = withKeyword("spring");
+        a.setPage(3);
+        a.setAsc(true);
+        a.setFields(List.of(PostField.TITLE));
+
+        assertThat(PostListCacheKey.from(a).toFacetKey()).isEqualTo(PostListCacheKey.from(withKeyword("spring")).toFacetKey());
+    }
+
+    @Test
+    void blogFilterOnlyReactsToItsOwnBlog() {
+        PostListCacheKey key = blogKey(BLOG);
+
+        assertThat(key.isAffectedBy(BLOG, Set.of("spring"))).isTrue();
+        assertThat(key.isAffectedBy(BLOG, null)).isTrue();
+        assertThat(key.isAffectedBy(OTHER_BLOG, Set.of("spring"))).isFalse();
+        assertThat(key.isAffectedBy(OTHER_BLOG, null)).isFalse();
+    }
+
+    @Test
+    void unfilteredAndKeywordListsReactToEveryChange() {
+        assertThat(PostListCacheKey.from(request()).isAffectedBy(OTHER_BLOG, Set.of())).isTrue();
+        assertThat(PostListCacheKey.from(withKeyword("spring")).isAffectedBy(OTHER_BLOG, Set.of())).isTrue();
+    }
+
+    @Test
+    void orListReactsToAnyOfItsTags() {
+        PostListCacheKey key = key(TagMode.OR, "spring", "jpa");
+
+        assertThat(key.isAffectedBy(BLOG, Set.of("jpa", "kotlin"))).isTrue();
+        assertThat(key.isAffectedBy(BLOG, Set.of("kotlin"))).isFalse();
+        assertThat(key.isAffectedBy(BLOG, Set.of())).isFalse();
+    }
+
+    @Test
+    void andListReactsOnlyWhenThePostCarriesEveryTag() {
+        PostListCacheKey key = key(TagMode.AND, "spring", "jpa");
+
+        assertThat(key.isAffectedBy(BLOG, Set.of("spring", "jpa", "kotlin"))).isTrue();
+        // 한 태그만 가진 게시글은 변경 전에도 후에도 이 목록에 없음
+        assertThat(key.isAffectedBy(BLOG, Set.of("spring"))).isFalse();
+    }
+
+    @Test
+    void tagRemovedByAnEditStillInvalidates() {
+        // 수정 전 [spring, jpa] → 수정 후 [spring]: 이벤트 태그는 합집합이라 AND 목록에서 빠지는 것도 감지
+        PostListCacheKey key = key(TagMode.AND, "spring", "jpa");
+
+        assertThat(key.isAffectedBy(BLOG, Set.of("spring", "jpa"))).isTrue();
+    }
+
+    @Test
+    void nandListReactsToEveryChange() {
+        // 태그가 없는 게시글도 NAND 목록에는 들어가므로 태그와 무관하게 무효화
+        PostListCacheKey key = key(TagMode.NAND, "spring");
+
+        assertThat(key.isAffectedBy(BLOG, Set.of())).isTrue();
+        assertThat(key.isAffectedBy(BLOG, Set.of("kotlin"))).isTrue();
+    }
+
+    @Test
+    void tagComparisonIgnoresCase() {
+        assertThat(key(TagMode.OR, "Spring").isAffectedBy(BLOG, Set.of("spring"))).isTrue();
+        assertThat(key(TagMode.AND, "spring", "JPA").isAffectedBy(BLOG, Set.of("SPRING", "jpa"))).isTrue();
+    }
+
+    @Test
+    void blogLevelChangeReachesEveryTagFilter() {
+        // 회원 정보 변경 등 태그를 모르는 변경 (changedTags == null)
+        assertThat(key(TagMode.AND, "spring", "jpa").isAffectedBy(BLOG, null)).isTrue();
+        assertThat(key(TagMode.OR, "spring").isAffectedBy(BLOG, null)).isTrue();
+    }
+
+    @Test
+    void keywordWithTagsStillUsesTheTagCheck() {
+        PostGetRequest request = withKeyword("spring");
+        request.setTag(List.of("jpa"));
+        PostListCacheKey key = PostListCacheKey.from(request);
+
+        assertThat(key.isAffectedBy(BLOG, Set.of("jpa"))).isTrue();
+        assertThat(key.isAffectedBy(BLOG, Set.of("kotlin"))).isFalse();
+    }
+
+    private static PostGetRequest request() {
+        PostGetRequest request = new PostGetRequest();
+        request.normalize();
+        return request;
+    }
+
+    private static PostGetRequest withKeyword(String keyword) {
+        PostGetRequest request = request();
+        request.setKeyword(keyword);
+        return request;
+    }
+
+    private static PostListCacheKey blogKey(long blogId) {
+        PostGetRequest request = request();
+        request.setBlogId(blogId);
+        return PostListCacheKey.from(request);
+    }
+
+    private static PostListCacheKey key(TagMode tagMode, String... tags) {
+        PostGetRequest request = request();
+        request.setTag(List.of(tags));
+        request.setTagMode(tagMode);
+        return PostListCacheKey.from(request);
+    }
+}
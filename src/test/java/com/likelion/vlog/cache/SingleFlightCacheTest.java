@@ -0,0 +1,169 @@
+package com.likelion.vlog.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlightCache (스프링 없이)
+ * - 첫 miss의 loader가 끝나지 않게 막아 두고, 두 번째 호출이 그 결과를 기다리는 상태에서 풀어 줌
+ * - 실패는 대기 중인 호출에도 같은 예외로 전달되고 캐시에 남지 않음
+ */
+class SingleFlightCacheTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        SingleFlightCache<String, String> cache = cache(WAIT);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = getInBackground(cache, "k", blockingLoader(loads, release, () -> "value"));
+        awaitLoads(loads, 1);
+        CompletableFuture<String> second = getWhileLoading(cache, "k", () -> "other " + loads.incrementAndGet());
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getIfPresent("k")).contains("value");
+    }
+
+    @Test
+    void loadFailureReachesWaitersAndIsNotCached() throws Exception {
+        SingleFlightCache<String, String> cache = cache(WAIT);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        CompletableFuture<String> first = getInBackground(cache, "k", blockingLoader(loads, release, () -> {
+            throw failure;
+        }));
+        awaitLoads(loads, 1);
+        CompletableFuture<String> second = getWhileLoading(cache, "k", () -> "other " + loads.incrementAndGet());
+
+        release.countDown();
+
+        assertThat(first).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(ExecutionException.class).withCause(failure);
+        assertThat(second).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(ExecutionException.class).withCause(failure);
+        assertThat(loads).hasValue(1);
+
+        // 실패한 항목은 제거되므로 다음 호출은 새로 조회
+        assertThat(cache.getIfPresent("k")).isEmpty();
+        assertThat(cache.get("k", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void loaderExceptionIsRethrownToCaller() {
+        SingleFlightCache<String, String> cache = cache(WAIT);
+        IllegalArgumentException failure = new IllegalArgumentException("bad");
+
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw failure;
+        })).isSameAs(failure);
+        assertThat(cache.get("k", () -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void waiterPastTimeoutLoadsItselfWithoutCaching() throws Exception {
+        SingleFlightCache<String, String> cache = cache(Duration.ofMillis(50));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = getInBackground(cache, "k", blockingLoader(loads, release, () -> "slow"));
+        awaitLoads(loads, 1);
+
+        assertThat(cache.get("k", () -> "direct")).isEqualTo("direct");
+        assertThat(cache.getIfPresent("k")).isEmpty();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(cache.getIfPresent("k")).contains("slow");
+    }
+
+    @Test
+    void invalidationDuringLoadDropsTheResult() throws Exception {
+        SingleFlightCache<String, String> cache = cache(WAIT);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = getInBackground(cache, "k", blockingLoader(loads, release, () -> "stale"));
+        awaitLoads(loads, 1);
+
+        cache.invalidateIf("k"::equals);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.getIfPresent("k")).isEmpty();
+        assertThat(cache.get("k", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    private static SingleFlightCache<String, String> cache(Duration waitTimeout) {
+        return new SingleFlightCache<>("test", 100, Duration.ofMinutes(1), waitTimeout, new SimpleMeterRegistry());
+    }
+
+    // loads를 올린 뒤 release가 열릴 때까지 막혀 있는 loader
+    private static Supplier<String> blockingLoader(AtomicInteger loads, CountDownLatch release, Supplier<String> result) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return result.get();
+        };
+    }
+
+    private CompletableFuture<String> getInBackground(SingleFlightCache<String, String> cache, String key, Supplier<String> loader) {
+        return CompletableFuture.supplyAsync(() -> cache.get(key, loader), executor);
+    }
+
+    // 조회 중인 결과를 기다리는 상태(TIMED_WAITING)가 될 때까지 확인하고 반환
+    private CompletableFuture<String> getWhileLoading(SingleFlightCache<String, String> cache, String key, Supplier<String> loader)
+            throws InterruptedException {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+            thread.set(Thread.currentThread());
+            return cache.get(key, loader);
+        }, executor);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.get() == null || thread.get().getState() != Thread.State.TIMED_WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+        return future;
+    }
+
+    private static void awaitLoads(AtomicInteger loads, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.likelion.vlog.config.datasource;
+
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.repository.TagRepository;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.sequence.NoSequenceSupport;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스 테이블(MySQL 방식) ID 블록 갱신이 요청 풀의 커넥션을 추가로 쓰지 않는지 확인
+ * - 요청 풀 크기 1: 트랜잭션이 유일한 커넥션을 쥔 채 블록을 여러 번 갱신
+ *   (Hibernate 기본 동작이면 두 번째 커넥션을 기다리다 connection-timeout으로 실패)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pooled-sequence;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "spring.jpa.database-platform=com.likelion.vlog.config.datasource.PooledSequenceGeneratorTest$SequenceTableH2Dialect"
+})
+@ActiveProfiles("test")
+class PooledSequenceGeneratorTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void allocatesBlocksWithoutSecondPoolConnection() {
+        List<Long> ids = transactionTemplate.execute(status -> IntStream.range(0, 120)
+                .mapToObj(i -> tagRepository.save(Tag.of("pooled-sequence-" + i)).getId())
+                .toList());
+
+        assertThat(ids).doesNotHaveDuplicates().hasSize(120);
+        assertThat(tagRepository.count()).isEqualTo(120);
+        // 블록 3개(50 * 3) 예약
+        assertThat(jdbcTemplate.queryForObject("SELECT next_val FROM tags_seq", Long.class))
+                .isGreaterThanOrEqualTo(ids.stream().mapToLong(Long::longValue).max().orElseThrow() + 1);
+    }
+
+    // 시퀀스가 없는 DB(MySQL)처럼 *_seq 테이블을 쓰도록 하는 H2 방언
+    public static class SequenceTableH2Dialect extends H2Dialect {
+        @Override
+        public SequenceSupport getSequenceSupport() {
+            return NoSequenceSupport.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.likelion.vlog.config.datasource;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 (Primary, Replica 각각 별도 H2 인스턴스)
+ * - 두 DB에 서로 다른 표식(routing_marker)을 넣고, 트랜잭션 안에서 읽힌 값으로 어느 쪽에 연결됐는지 확인
+ * - Replica 지연은 replica_status.lag_seconds로 흉내 (lag-query 결과)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "vlog.datasource.replica.enabled=true",
+        "vlog.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "vlog.datasource.replica.username=sa",
+        "vlog.datasource.replica.password=",
+        "vlog.datasource.replica.driver-class-name=org.h2.Driver",
+        "vlog.datasource.replica.lag-query=SELECT lag_seconds AS Seconds_Behind_Source FROM replica_status",
+        "vlog.datasource.replica.max-lag=3s",
+        "vlog.datasource.replica.lag-check-interval=1h",
+        "vlog.datasource.replica.sticky-window=5s"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("readOnlyTransactionTemplate")
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        mark(new JdbcTemplate(primaryDataSource), "primary");
+        JdbcTemplate replica = mark(new JdbcTemplate(replicaDataSource), "replica");
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_status (lag_seconds BIGINT)");
+        replica.update("DELETE FROM replica_status");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readDatabase()).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        assertThat(writeDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replicaDataSource).update("UPDATE replica_status SET lag_seconds = 10");
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(readDatabase()).isEqualTo("primary");
+
+        // 지연이 풀리면 다시 Replica
+        new JdbcTemplate(replicaDataSource).update("UPDATE replica_status SET lag_seconds = 0");
+        replicaLagMonitor.check();
+        assertThat(readDatabase()).isEqualTo("replica");
+    }
+
+    @Test
+    void readsAfterOwnWriteStayOnPrimary() {
+        login("writer@test.com");
+        writeDatabase();
+
+        assertThat(readDatabase()).isEqualTo("primary");
+
+        // 다른 사용자의 읽기는 영향 없음
+        login("reader@test.com");
+        assertThat(readDatabase()).isEqualTo("replica");
+    }
+
+    private String readDatabase() {
+        return readOnlyTransactionTemplate.execute(status -> currentDatabase());
+    }
+
+    private String writeDatabase() {
+        return transactionTemplate.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return (String) entityManager.createNativeQuery("SELECT name FROM routing_marker").getSingleResult();
+    }
+
+    private static JdbcTemplate mark(JdbcTemplate jdbcTemplate, String name) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM routing_marker");
+        jdbcTemplate.update("INSERT INTO routing_marker VALUES (?)", name);
+        return jdbcTemplate;
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+}
@@ -0,0 +1,171 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 상세/댓글 목록 ETag
+ * - 상세는 조회수/좋아요 수가 버전 없이 바뀌므로 weak ETag
+ * - 다른 사람 게시글에 단 댓글의 작성자가 닉네임을 바꾸거나 탈퇴하면 그 게시글의 ETag도 바뀜
+ * - 버전 증가 UPDATE 후에도 이미 읽어둔 Post를 이전 버전으로 쓰지 않음
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:post-etag;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostETagTest {
+
+    private static final String PASSWORD = "password1!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String writer;
+    private String commenter;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        writer = signup("writer-" + suffix);
+        commenter = signup("commenter-" + suffix);
+
+        mockMvc.perform(post("/api/v1/posts")
+                        .with(user(writer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "etag %s", "content": "content", "tags": ["etag"]}
+                                """.formatted(suffix)))
+                .andExpect(status().isCreated());
+        postId = transactionTemplate.execute(status -> postRepository.findAll().stream()
+                .filter(post -> post.getTitle().equals("etag " + suffix))
+                .findFirst()
+                .map(Post::getId)
+                .orElseThrow());
+
+        mockMvc.perform(post("/api/v1/posts/{postId}/comments", postId)
+                        .with(user(commenter))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"content": "comment"}
+                                """))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    void detailETagIsWeak() throws Exception {
+        String etag = detailETag();
+
+        assertThat(etag).startsWith("W/\"");
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void commenterNicknameChangeChangesETags() throws Exception {
+        String detail = detailETag();
+        String comments = commentsETag();
+
+        mockMvc.perform(put("/api/v1/users/{userId}", userId(commenter))
+                        .with(user(commenter))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nickname": "renamed-%s"}
+                                """.formatted(UUID.randomUUID().toString().substring(0, 8))))
+                .andExpect(status().isOk());
+
+        assertThat(detailETag()).isNotEqualTo(detail);
+        assertThat(commentsETag()).isNotEqualTo(comments);
+    }
+
+    @Test
+    void commenterDeletionChangesETags() throws Exception {
+        String detail = detailETag();
+        String comments = commentsETag();
+
+        mockMvc.perform(delete("/api/v1/users/{userId}", userId(commenter))
+                        .with(user(commenter))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"password": "%s"}
+                                """.formatted(PASSWORD)))
+                .andExpect(status().isOk());
+
+        assertThat(detailETag()).isNotEqualTo(detail);
+        assertThat(commentsETag()).isNotEqualTo(comments);
+    }
+
+    @Test
+    void versionIncrementRereadsAlreadyLoadedPost() {
+        Long saved = transactionTemplate.execute(status -> {
+            Post loaded = postRepository.findById(postId).orElseThrow();
+            long before = loaded.getVersion();
+
+            Post incremented = postRepository.findWithVersionIncrementById(postId).orElseThrow();
+            assertThat(incremented.getVersion()).isEqualTo(before + 1);
+
+            // 증가한 버전으로 쓰므로 낙관적 락 검사 통과
+            incremented.update("updated", "updated content");
+            postRepository.flush();
+            return incremented.getVersion();
+        });
+
+        assertThat(postRepository.findVersionById(postId)).contains(saved);
+    }
+
+    private String detailETag() throws Exception {
+        return mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String commentsETag() throws Exception {
+        return mockMvc.perform(get("/api/v1/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private Long userId(String email) {
+        return transactionTemplate.execute(status -> userRepository.findByEmail(email).orElseThrow().getId());
+    }
+
+    private String signup(String nickname) throws Exception {
+        String email = nickname + "@test.com";
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "%s", "nickname": "%s"}
+                                """.formatted(email, PASSWORD, nickname)))
+                .andExpect(status().is2xxSuccessful());
+        return email;
+    }
+}
@@ -0,0 +1,129 @@
+package com.likelion.vlog.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 목록(GET /api/v1/posts)의 태그
+ * - 항목마다 자기 게시글의 태그가 작성 순서대로 들어감
+ * - 태그는 페이지 전체를 한 번에 조회하므로 페이지 크기와 무관하게 SQL 3개: id 페이지, 컬럼, 태그 (Server-Timing)
+ *   (count 쿼리는 다음 페이지가 있을 때만 실행되므로 withTotal=false로 빼고 셈)
+ * - fields에 tags가 없으면 태그를 조회하지도 응답하지도 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-list-tags;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "vlog.cache.post-list.ttl=0s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostListTagsTest {
+
+    private static final String WRITER = "list-tags@test.com";
+    private static final int POSTS = 8;
+    private static final int LIST_STATEMENTS = 3;
+    private static final Pattern STATEMENTS = Pattern.compile("db;desc=\"(\\d+) statements\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long blogId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password1!", "nickname": "list-tags"}
+                                """.formatted(WRITER)))
+                .andExpect(status().is2xxSuccessful());
+
+        for (int i = 0; i < POSTS; i++) {
+            mockMvc.perform(post("/api/v1/posts")
+                            .with(user(WRITER))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"title": "post %d", "content": "content", "tags": ["tag-%d", "common"]}
+                                    """.formatted(i, i)))
+                    .andExpect(status().isCreated());
+        }
+
+        blogId = transactionTemplate.execute(status ->
+                blogRepository.findByUser(userRepository.findByEmail(WRITER).orElseThrow()).orElseThrow().getId());
+    }
+
+    @Test
+    void itemsCarryTheirOwnTags() throws Exception {
+        List<Map<String, Object>> items = JsonPath.read(list(POSTS).getResponse().getContentAsString(), "$.content");
+
+        assertThat(items).hasSize(POSTS).allSatisfy(item -> {
+            String number = String.valueOf(item.get("title")).substring("post ".length());
+            assertThat(item.get("tags")).isEqualTo(List.of("tag-" + number, "common"));
+        });
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() throws Exception {
+        assertThat(statements(list(2))).isEqualTo(LIST_STATEMENTS);
+        assertThat(statements(list(POSTS))).isEqualTo(LIST_STATEMENTS);
+    }
+
+    @Test
+    void tagsAreSkippedWhenNotRequested() throws Exception {
+        MvcResult withoutTags = list(POSTS, "title");
+
+        List<Object> tags = JsonPath.read(withoutTags.getResponse().getContentAsString(), "$.content[*].tags");
+        assertThat(tags).isEmpty();
+        assertThat(statements(withoutTags)).isEqualTo(LIST_STATEMENTS - 1);
+    }
+
+    private MvcResult list(int size, String... fields) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/posts")
+                .param("blogId", String.valueOf(blogId))
+                .param("size", String.valueOf(size))
+                .param("withTotal", "false");
+        if (fields.length > 0) request.param("fields", fields);
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private static int statements(MvcResult result) {
+        Matcher matcher = STATEMENTS.matcher(result.getResponse().getHeader("Server-Timing"));
+        assertThat(matcher.find()).isTrue();
+        return Integer.parseInt(matcher.group(1));
+    }
+}
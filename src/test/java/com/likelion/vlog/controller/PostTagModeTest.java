@@ -0,0 +1,124 @@
+package com.likelion.vlog.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 목록 태그 조건 (tag=...&tagMode=OR|AND|NAND)
+ * - OR: 태그 중 하나라도, AND: 모든 태그, NAND: 어느 태그도 달리지 않은 게시글
+ * - 여러 태그에 걸린 게시글도 한 번만 나오고 total도 중복 없이 셈
+ * - 없는 태그: AND는 결과 없음, OR/NAND는 무시
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:post-tag-mode;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostTagModeTest {
+
+    private static final String WRITER = "tag-mode@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long blogId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password1!", "nickname": "tag-mode"}
+                                """.formatted(WRITER)))
+                .andExpect(status().is2xxSuccessful());
+
+        createPost("both", List.of("spring", "java"));
+        createPost("spring only", List.of("spring"));
+        createPost("java only", List.of("java", "jpa"));
+        createPost("other", List.of("jpa"));
+        createPost("untagged", List.of());
+
+        blogId = transactionTemplate.execute(status ->
+                blogRepository.findByUser(userRepository.findByEmail(WRITER).orElseThrow()).orElseThrow().getId());
+    }
+
+    @Test
+    void orMatchesAnyTag() throws Exception {
+        assertThat(titles("OR", "spring", "java")).containsExactlyInAnyOrder("both", "spring only", "java only");
+    }
+
+    @Test
+    void andMatchesEveryTag() throws Exception {
+        assertThat(titles("AND", "spring", "java")).containsExactly("both");
+        assertThat(titles("AND", "java", "jpa")).containsExactly("java only");
+    }
+
+    @Test
+    void nandExcludesEveryTag() throws Exception {
+        assertThat(titles("NAND", "spring", "java")).containsExactlyInAnyOrder("other", "untagged");
+    }
+
+    @Test
+    void unknownTag() throws Exception {
+        assertThat(titles("AND", "spring", "missing")).isEmpty();
+        assertThat(titles("OR", "spring", "missing")).containsExactlyInAnyOrder("both", "spring only");
+        assertThat(titles("NAND", "spring", "missing")).containsExactlyInAnyOrder("java only", "other", "untagged");
+        assertThat(titles("OR", "missing")).isEmpty();
+        assertThat(titles("NAND", "missing")).hasSize(5);
+    }
+
+    // 목록 제목 (total이 목록 크기와 같은지도 확인 → 중복 행이 없음)
+    private List<String> titles(String tagMode, String... tags) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/posts")
+                        .param("blogId", String.valueOf(blogId))
+                        .param("tag", tags)
+                        .param("tagMode", tagMode)
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String body = result.getResponse().getContentAsString();
+        List<String> titles = JsonPath.read(body, "$.content[*].title");
+        Number total = JsonPath.read(body, "$.pageInfo.totalElements");
+        assertThat(total.longValue()).isEqualTo(titles.size());
+        return titles;
+    }
+
+    private void createPost(String title, List<String> tags) throws Exception {
+        String tagJson = tags.isEmpty() ? "" : "\"" + String.join("\", \"", tags) + "\"";
+        mockMvc.perform(post("/api/v1/posts")
+                        .with(user(WRITER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "%s", "content": "content", "tags": [%s]}
+                                """.formatted(title, tagJson)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,254 @@
+package com.likelion.vlog.monitoring;
+
+import com.jayway.jsonpath.JsonPath;
+import com.likelion.vlog.autocomplete.AutocompleteLoader;
+import com.likelion.vlog.related.RelatedPostLoader;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.TagRepository;
+import com.likelion.vlog.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @QueryBudget 엔드포인트의 SQL 예산 (strict 모드: 초과하면 500)
+ * - 로컬 캐시 TTL 0 + 호출마다 2차 캐시 비움 → 선언 기준인 cold 상태로 측정
+ * - 목록형 응답(팔로워, 댓글)은 행이 여러 개가 되도록 시드 → 행마다 쿼리가 생기면 예산 초과
+ * - 예산을 넘긴 요청이 200이 아니라 500으로 끝나는지도 확인 (본문 쓰기 전에 검사)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "vlog.cache.post-list.ttl=0s",
+        "vlog.cache.post-detail.ttl=0s",
+        "vlog.cache.post-facets.ttl=0s",
+        "vlog.cache.popular-tags.ttl=0s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryBudgetTest.OverBudgetController.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    private static final String WRITER = "writer@test.com";
+    private static final String READER = "reader@test.com";
+    private static final String FAN = "fan@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RelatedPostLoader relatedPostLoader;
+
+    @Autowired
+    private AutocompleteLoader autocompleteLoader;
+
+    private Long writerId;
+    private Long postId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        signup(WRITER, "writer");
+        signup(READER, "reader");
+        signup(FAN, "fan");
+        for (int i = 0; i < 6; i++) {
+            createPost("post " + i, i % 2 == 0 ? List.of("spring", "java") : List.of("spring", "jpa"));
+        }
+        writerId = transactionTemplate.execute(status -> userRepository.findByEmail(WRITER).orElseThrow().getId());
+        postId = postRepository.findAll().get(0).getId();
+        mockMvc.perform(post("/api/v1/posts/{postId}/like", postId).with(user(READER)))
+                .andExpect(status().is2xxSuccessful());
+
+        // 팔로워 2명 중 1명은 맞팔로우
+        Long readerId = transactionTemplate.execute(status -> userRepository.findByEmail(READER).orElseThrow().getId());
+        follow(READER, writerId);
+        follow(FAN, writerId);
+        follow(WRITER, readerId);
+
+        // 댓글 3개, 댓글마다 대댓글 2개 (게시글 작성자는 빼서 작성자 블로그/회원도 따로 조회되는 cold 기준)
+        for (int i = 0; i < 3; i++) {
+            Long commentId = comment(i % 2 == 0 ? READER : FAN);
+            reply(READER, commentId);
+            reply(FAN, commentId);
+        }
+
+        relatedPostLoader.refresh();
+        autocompleteLoader.refresh();
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void postList() throws Exception {
+        withinBudget(get("/api/v1/posts"));
+        withinBudget(get("/api/v1/posts").param("tag", "spring", "jpa").param("tagMode", "AND"));
+        withinBudget(get("/api/v1/posts").param("keyword", "post").param("facets", "true"));
+        withinBudget(get("/api/v1/posts").param("blogId", "1").param("sort", "like"));
+    }
+
+    @Test
+    void postDetail() throws Exception {
+        withinBudget(get("/api/v1/posts/{postId}", postId));
+        withinBudget(get("/api/v1/posts/{postId}", postId).param("fields", "title", "tags"));
+        withinBudget(get("/api/v1/posts/{postId}", postId).param("include", "likeState", "comments").with(user(READER)));
+    }
+
+    @Test
+    void comments() throws Exception {
+        withinBudget(get("/api/v1/posts/{postId}/comments", postId));
+    }
+
+    @Test
+    void follows() throws Exception {
+        // 맞팔로우 여부를 한 번에 조회해도 팔로워별 값이 맞는지
+        withinBudget(get("/api/v1/users/{userId}/followers", writerId))
+                .andExpect(jsonPath("$.data.content[?(@.nickname == 'reader')].following").value(true))
+                .andExpect(jsonPath("$.data.content[?(@.nickname == 'fan')].following").value(false));
+        withinBudget(get("/api/v1/users/{userId}/followings", writerId));
+    }
+
+    @Test
+    void relatedPosts() throws Exception {
+        withinBudget(get("/api/v1/posts/{postId}/related", postId));
+    }
+
+    @Test
+    void userProfile() throws Exception {
+        withinBudget(get("/api/v1/users/{userId}", writerId));
+    }
+
+    @Test
+    void popularTags() throws Exception {
+        withinBudget(get("/api/v1/tags"));
+    }
+
+    @Test
+    void tag() throws Exception {
+        withinBudget(get("/api/v1/tags/{title}", "spring"));
+    }
+
+    @Test
+    void autocomplete() throws Exception {
+        withinBudget(get("/api/v1/autocomplete").param("q", "sp"));
+    }
+
+    @Test
+    void likes() throws Exception {
+        withinBudget(get("/api/v1/posts/{postId}/like", postId));
+        withinBudget(get("/api/v1/posts/{postId}/like", postId).with(user(READER)));
+    }
+
+    @Test
+    void overBudgetFailsBeforeResponseIsCommitted() throws Exception {
+        mockMvc.perform(get("/api/v1/tags/test/over-budget"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    private ResultActions withinBudget(RequestBuilder request) throws Exception {
+        evictSecondLevelCache();
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().exists(QueryStatsFilter.SERVER_TIMING));
+    }
+
+    private void signup(String email, String nickname) throws Exception {
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password1!", "nickname": "%s"}
+                                """.formatted(email, nickname)))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private void follow(String email, Long userId) throws Exception {
+        mockMvc.perform(post("/api/v1/users/{userId}/follows", userId).with(user(email)))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private Long comment(String email) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/posts/{postId}/comments", postId)
+                        .with(user(email))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"content": "comment by %s"}
+                                """.formatted(email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(body, "$.data.commentId")).longValue();
+    }
+
+    private void reply(String email, Long commentId) throws Exception {
+        mockMvc.perform(post("/api/v1/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .with(user(email))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"content": "reply by %s"}
+                                """.formatted(email)))
+                .andExpect(status().isCreated());
+    }
+
+    private void createPost(String title, List<String> tags) throws Exception {
+        String tagJson = String.join("\", \"", tags);
+        mockMvc.perform(post("/api/v1/posts")
+                        .with(user(WRITER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "%s", "content": "content of %s", "tags": ["%s"]}
+                                """.formatted(title, title, tagJson)))
+                .andExpect(status().isCreated());
+    }
+
+    // 예산 0에 SQL 1개를 실행하는 엔드포인트
+    @RestController
+    static class OverBudgetController {
+
+        private final TagRepository tagRepository;
+
+        OverBudgetController(TagRepository tagRepository) {
+            this.tagRepository = tagRepository;
+        }
+
+        @GetMapping("/api/v1/tags/test/over-budget")
+        @QueryBudget(0)
+        public long overBudget() {
+            return tagRepository.count();
+        }
+    }
+}
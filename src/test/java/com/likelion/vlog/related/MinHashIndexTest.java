@@ -0,0 +1,155 @@
+package com.likelion.vlog.related;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MinHashIndex (스프링 없이)
+ * - 반환하는 유사도는 근사가 아니라 실제 Jaccard 값
+ * - 후보가 될 확률은 1 - (1 - s^rows)^bands 곡선을 따름 (기본 32 x 2: s=0.5면 거의 항상, s=0.1이면 3건 중 1건꼴)
+ *   같은 입력이면 해시가 같으므로 비율 검사도 매번 같은 결과
+ */
+class MinHashIndexTest {
+
+    private static final int BANDS = 32;
+    private static final int ROWS = 2;
+    private static final int LIMIT = 20;
+    private static final int MAX_CANDIDATES = 200;
+    private static final int PAIRS = 300;
+
+    @Test
+    void similarityIsTheExactJaccard() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS, false);
+        index.put(1L, "a", List.of("spring", "jpa", "mysql"));
+        index.put(2L, "b", List.of("spring", "jpa", "mysql", "redis"));
+        index.put(3L, "c", List.of("spring", "jpa"));
+        index.put(4L, "d", List.of("kotlin"));
+
+        List<RelatedPost> related = index.related(1L, LIMIT, MAX_CANDIDATES);
+
+        assertThat(related).extracting(RelatedPost::postId).containsExactly(2L, 3L);
+        assertThat(related.get(0).similarity()).isCloseTo(0.75, within(1e-9));
+        assertThat(related.get(1).similarity()).isCloseTo(2.0 / 3, within(1e-9));
+    }
+
+    @Test
+    void identicalTagsAreAlwaysRelatedAndTiesGoToTheNewerPost() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS, false);
+        index.put(1L, "a", List.of("spring", "jpa"));
+        index.put(2L, "b", List.of(" JPA", "Spring "));
+        index.put(3L, "c", List.of("jpa", "spring"));
+
+        List<RelatedPost> related = index.related(1L, LIMIT, MAX_CANDIDATES);
+
+        assertThat(related).extracting(RelatedPost::postId).containsExactly(3L, 2L);
+        assertThat(related).allSatisfy(post -> assertThat(post.similarity()).isEqualTo(1.0));
+    }
+
+    @Test
+    void disjointTagsAreNeverRelated() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS, false);
+        IntStream.rangeClosed(1, 50).forEach(id -> index.put((long) id, "t", List.of("tag-" + id)));
+
+        IntStream.rangeClosed(1, 50).forEach(id ->
+                assertThat(index.related((long) id, LIMIT, MAX_CANDIDATES)).isEmpty());
+    }
+
+    @Test
+    void highSimilarityIsFoundWithDefaultBands() {
+        // 공통 태그 3개 + 각자 1개 -> s = 3/5
+        double found = candidateRate(BANDS, ROWS, 3, 1);
+
+        assertThat(found).isGreaterThanOrEqualTo(0.99);
+    }
+
+    @Test
+    void lowSimilarityFollowsTheLshCurve() {
+        // 공통 태그 1개 + 각자 8개 -> s = 1/17, 기대 비율 1 - (1 - s^2)^32 ≈ 0.105
+        double s = 1.0 / 17;
+        double expected = 1 - Math.pow(1 - s * s, BANDS);
+
+        double found = candidateRate(BANDS, ROWS, 1, 8);
+
+        assertThat(found).isCloseTo(expected, within(0.06));
+    }
+
+    @Test
+    void moreRowsRaiseTheThreshold() {
+        // 4 x 8: s = 3/5 도 후보가 될 확률 1 - (1 - 0.6^8)^4 ≈ 0.064
+        double found = candidateRate(4, 8, 3, 1);
+
+        assertThat(found).isLessThan(0.15);
+    }
+
+    @Test
+    void maxCandidatesAndLimitCapTheResult() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS, false);
+        IntStream.rangeClosed(1, 30).forEach(id -> index.put((long) id, "t", List.of("spring")));
+
+        assertThat(index.related(1L, LIMIT, 5)).hasSize(5);
+        assertThat(index.related(1L, 3, MAX_CANDIDATES)).extracting(RelatedPost::postId).containsExactly(30L, 29L, 28L);
+    }
+
+    @Test
+    void putReplacesAndRemoveForgets() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS, false);
+        index.put(1L, "a", List.of("spring"));
+        index.put(2L, "b", List.of("spring"));
+
+        index.put(2L, "b", List.of("kotlin"));
+        assertThat(index.related(1L, LIMIT, MAX_CANDIDATES)).isEmpty();
+
+        index.put(3L, "c", List.of("spring"));
+        index.remove(3L);
+        assertThat(index.related(1L, LIMIT, MAX_CANDIDATES)).isEmpty();
+        assertThat(index.related(3L, LIMIT, MAX_CANDIDATES)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void postWithoutFeaturesHasNoRelatedPosts() {
+        MinHashIndex index = new MinHashIndex(BANDS, ROWS, false);
+        index.put(1L, "스프링 입문", List.of());
+        index.put(2L, "스프링 입문", List.of());
+
+        assertThat(index.related(1L, LIMIT, MAX_CANDIDATES)).isEmpty();
+    }
+
+    @Test
+    void titleBigramsAreUsedOnlyWhenEnabled() {
+        MinHashIndex withTitles = new MinHashIndex(BANDS, ROWS, true);
+        withTitles.put(1L, "스프링 부트 입문", List.of());
+        withTitles.put(2L, "스프링부트 입문서", List.of());
+
+        assertThat(withTitles.related(1L, LIMIT, MAX_CANDIDATES)).extracting(RelatedPost::postId).containsExactly(2L);
+    }
+
+    // 서로 다른 태그 쌍 PAIRS개 중 서로의 연관 게시글로 나온 비율
+    private static double candidateRate(int bands, int rows, int shared, int own) {
+        int found = 0;
+        for (int pair = 0; pair < PAIRS; pair++) {
+            List<String> common = tags("p" + pair + "-common", shared);
+            MinHashIndex index = new MinHashIndex(bands, rows, false);
+            index.put(1L, "a", concat(common, tags("p" + pair + "-a", own)));
+            index.put(2L, "b", concat(common, tags("p" + pair + "-b", own)));
+            if (!index.related(1L, LIMIT, MAX_CANDIDATES).isEmpty()) found++;
+        }
+        return (double) found / PAIRS;
+    }
+
+    private static List<String> tags(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + "-" + i).toList();
+    }
+
+    private static List<String> concat(List<String> a, List<String> b) {
+        List<String> all = new ArrayList<>(a);
+        all.addAll(b);
+        return all;
+    }
+}
@@ -0,0 +1,99 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.config.datasource.ReplicaLagMonitor;
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Replica 라우팅(LazyConnectionDataSourceProxy)에서 병렬 count가 커넥션을 얻은 뒤에 실행권을 잡는지
+ * - Replica 풀 1개: 본문 조회가 유일한 커넥션을 쥔 채 count 결과를 기다림
+ * - count 작업이 커넥션 없이 실행권을 먼저 잡으면 connection-timeout으로 실패, 아니면 호출 스레드가 직접 count
+ * - Replica는 Primary와 같은 H2 DB를 가리킴 (스키마/데이터 공유, 풀만 별도)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:parallel-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "vlog.datasource.replica.enabled=true",
+        "vlog.datasource.replica.url=jdbc:h2:mem:parallel-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "vlog.datasource.replica.username=sa",
+        "vlog.datasource.replica.password=",
+        "vlog.datasource.replica.driver-class-name=org.h2.Driver",
+        "vlog.datasource.replica.hikari.maximum-pool-size=1",
+        "vlog.datasource.replica.hikari.connection-timeout=1000",
+        "vlog.datasource.replica.lag-query=SELECT 0 AS Seconds_Behind_Source",
+        "vlog.datasource.replica.lag-check-interval=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ParallelCountReplicaTest {
+
+    private static final String WRITER = "parallel-count@test.com";
+    private static final int POSTS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("readOnlyTransactionTemplate")
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @BeforeAll
+    void seed() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password1!", "nickname": "parallel-count"}
+                                """.formatted(WRITER)))
+                .andExpect(status().is2xxSuccessful());
+        for (int i = 0; i < POSTS; i++) {
+            mockMvc.perform(post("/api/v1/posts")
+                            .with(user(WRITER))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"title": "post %d", "content": "content"}
+                                    """.formatted(i)))
+                    .andExpect(status().isCreated());
+        }
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    void countWaitingForConnectionIsTakenOverByCaller() {
+        PostGetRequest request = new PostGetRequest();
+        request.setSize(1);
+        request.normalize();
+
+        for (int i = 0; i < 5; i++) {
+            Page<Long> page = readOnlyTransactionTemplate.execute(status -> {
+                // count 작업이 제출되기 전에 이 트랜잭션이 Replica의 유일한 커넥션을 쥠
+                assertThat(postRepository.count()).isEqualTo(POSTS);
+                return postRepository.search(request);
+            });
+
+            assertThat(page.getContent()).hasSize(1);
+            assertThat(page.getTotalElements()).isEqualTo(POSTS);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.dto.posts.PostGetRequest;
+import com.likelion.vlog.enums.SortField;
+import com.likelion.vlog.enums.TagMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.EnumSource.Mode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 쿼리의 MySQL 실행 계획 (Flyway 스키마 + V3 복합 인덱스)
+ * - repository가 실제로 보낸 SQL을 general_log에서 꺼내 EXPLAIN
+ * - 목록/블로그 필터는 정렬 컬럼 인덱스(ix_posts_*)로 filesort 없이, 태그 필터는 ix_tag_maps_tag_post로 조회해야 함
+ * - 태그 조건(OR/AND/NAND)은 tags 조인/DISTINCT 없이 tag_maps 인덱스만으로 semi-join
+ * - Docker가 없으면 건너뜀
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostQueryPlanTest {
+
+    private static final int USERS = 20;
+    private static final int POSTS = 5000;
+    private static final int TAGS = 50;
+
+    // general_log 설정에 SUPER 권한이 필요하므로 root로 접속
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("readOnlyTransactionTemplate")
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Random random = new Random(42);
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (user_id, email, password, nickname, created_at, updated_at) VALUES (?, ?, 'pw', ?, NOW(), NOW())",
+                rows(USERS, i -> new Object[]{i, "user" + i + "@test.com", "user" + i}));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO blogs (blog_id, user_id, title, created_at, updated_at) VALUES (?, ?, ?, NOW(), NOW())",
+                rows(USERS, i -> new Object[]{i, i, "blog" + i}));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO posts (post_id, blog_id, title, content, view_count, like_count, created_at, updated_at) VALUES (?, ?, ?, 'content', ?, ?, ?, ?)",
+                rows(POSTS, i -> new Object[]{i, i % USERS + 1, "post" + i, random.nextInt(10_000), random.nextInt(500),
+                        Timestamp.valueOf(base.plusMinutes(i)), Timestamp.valueOf(base.plusMinutes(random.nextInt(POSTS)))}));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tags (tag_id, title, created_at, updated_at) VALUES (?, ?, NOW(), NOW())",
+                rows(TAGS, i -> new Object[]{i, "tag" + i}));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tag_maps (tag_map_id, post_id, tag_id, created_at, updated_at) VALUES (?, ?, ?, NOW(), NOW())",
+                rows(POSTS * 2, i -> {
+                    int postId = (i + 1) / 2;
+                    // 글마다 서로 다른 태그 2개
+                    int tagId = i % 2 == 1 ? postId % TAGS + 1 : (postId * 7 + 1) % TAGS + 1;
+                    return new Object[]{i, postId, tagId};
+                }));
+
+        jdbcTemplate.execute("ANALYZE TABLE users, blogs, posts, tags, tag_maps");
+    }
+
+    @BeforeEach
+    void startCapture() {
+        jdbcTemplate.execute("SET GLOBAL log_output = 'TABLE'");
+        jdbcTemplate.execute("TRUNCATE TABLE mysql.general_log");
+        jdbcTemplate.execute("SET GLOBAL general_log = 'ON'");
+    }
+
+    @AfterEach
+    void stopCapture() {
+        jdbcTemplate.execute("SET GLOBAL general_log = 'OFF'");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SortField.class, names = "TRENDING", mode = Mode.EXCLUDE)
+    void listUsesSortIndex(SortField sort) {
+        PostGetRequest request = request(sort);
+
+        Map<String, Object> plan = postsRow(planOf(request));
+
+        assertThat(plan.get("key")).isEqualTo(sortIndex("ix_posts_", sort));
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SortField.class, names = "TRENDING", mode = Mode.EXCLUDE)
+    void blogFilterUsesBlogSortIndex(SortField sort) {
+        PostGetRequest request = request(sort);
+        request.setBlogId(3L);
+
+        Map<String, Object> plan = postsRow(planOf(request));
+
+        assertThat(plan.get("key")).isEqualTo(sortIndex("ix_posts_blog_", sort));
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+    }
+
+    @Test
+    void tagFilterUsesTagPostIndex() {
+        PostGetRequest request = request(SortField.CREATED_AT);
+        request.setTag(List.of("tag7"));
+
+        List<Map<String, Object>> plan = planOf(request);
+
+        assertThat(plan).anySatisfy(row -> assertThat(row.get("key")).isEqualTo("ix_tag_maps_tag_post"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TagMode.class)
+    void tagModesSemiJoinTagMapsOnly(TagMode tagMode) {
+        PostGetRequest request = request(SortField.CREATED_AT);
+        request.setTag(List.of("tag7", "tag8"));
+        request.setTagMode(tagMode);
+
+        String pageQuery = pageQuery(request);
+        List<Map<String, Object>> plan = explain(pageQuery);
+
+        assertThat(pageQuery).doesNotContainIgnoringCase("distinct").doesNotContain(" tags ");
+        assertThat(plan).filteredOn(row -> String.valueOf(row.get("table")).startsWith("tm"))
+                .isNotEmpty()
+                .allSatisfy(row -> assertThat(row.get("key")).isIn("ix_tag_maps_tag_post", "unique_post_tag"));
+    }
+
+    private PostGetRequest request(SortField sort) {
+        PostGetRequest request = new PostGetRequest();
+        request.setSort(sort);
+        request.setSize(20);
+        request.setWithTotal(false);
+        request.normalize();
+        return request;
+    }
+
+    private List<Map<String, Object>> planOf(PostGetRequest request) {
+        return explain(pageQuery(request));
+    }
+
+    /**
+     * 검색 실행 후 id 페이지 쿼리(ORDER BY가 있는 posts 조회)
+     */
+    private String pageQuery(PostGetRequest request) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> postRepository.search(request));
+        jdbcTemplate.execute("SET GLOBAL general_log = 'OFF'");
+
+        List<String> pageQueries = jdbcTemplate.queryForList(
+                "SELECT CONVERT(argument USING utf8mb4) FROM mysql.general_log "
+                        + "WHERE command_type = 'Query' AND argument LIKE 'select%from posts%order by%'",
+                String.class);
+        assertThat(pageQueries).as("captured page query").hasSize(1);
+        return pageQueries.get(0);
+    }
+
+    private List<Map<String, Object>> explain(String query) {
+        return jdbcTemplate.queryForList("EXPLAIN " + query);
+    }
+
+    // 바깥 posts 행 (Hibernate 별칭 p1_0)
+    private static Map<String, Object> postsRow(List<Map<String, Object>> plan) {
+        return plan.stream()
+                .filter(row -> "p1_0".equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no posts row: " + plan));
+    }
+
+    private static String sortIndex(String prefix, SortField sort) {
+        return switch (sort) {
+            case CREATED_AT -> prefix + "created_at";
+            case UPDATED_AT -> prefix + "updated_at";
+            case VIEW -> prefix + "view_count";
+            case LIKE -> prefix + "like_count";
+            default -> throw new IllegalArgumentException("DB 정렬이 아님: " + sort);
+        };
+    }
+
+    private static List<Object[]> rows(int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) rows.add(row.apply(i));
+        return rows;
+    }
+}
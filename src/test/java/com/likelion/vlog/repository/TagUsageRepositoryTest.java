@@ -0,0 +1,142 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.dto.tags.TagPopularGetResponse;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.service.OrphanTagCleaner;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 태그별 게시글 수 카운터 (tag_usage_counts)
+ * - 게시글 작성/삭제로 카운터가 바뀌어도 2차 캐시의 Tag는 그대로 남아야 함
+ * - 카운터는 인기 태그 조회에 반영되고, 0이 된 태그는 OrphanTagCleaner가 카운터와 함께 삭제
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:tag-usage;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TagUsageRepositoryTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagUsageRepository tagUsageRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private OrphanTagCleaner orphanTagCleaner;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String writer;
+    private String tagName;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        writer = "usage-" + suffix + "@test.com";
+        tagName = "usage-" + suffix;
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password1!", "nickname": "usage-%s"}
+                                """.formatted(writer, suffix)))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    void counterUpdateKeepsCachedTag() throws Exception {
+        createPost();
+        Long tagId = findTag().getId();
+        assertThat(entityManagerFactory.getCache().contains(Tag.class, tagId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> tagUsageRepository.addUsageCount(Set.of(tagName), 1));
+
+        assertThat(entityManagerFactory.getCache().contains(Tag.class, tagId)).isTrue();
+    }
+
+    @Test
+    void usageCountFollowsPostWrites() throws Exception {
+        Long first = createPost();
+        createPost();
+        assertThat(usageCount()).isEqualTo(2);
+
+        deletePost(first);
+
+        assertThat(usageCount()).isEqualTo(1);
+    }
+
+    @Test
+    void orphanCleanupDeletesCounterAndTag() throws Exception {
+        Long postId = createPost();
+        Long tagId = findTag().getId();
+
+        deletePost(postId);
+        assertThat(usageCount()).isZero();
+        orphanTagCleaner.clean();
+
+        assertThat(tagUsageRepository.existsById(tagId)).isFalse();
+        assertThat(tagRepository.existsById(tagId)).isFalse();
+    }
+
+    private Tag findTag() {
+        return transactionTemplate.execute(status -> tagRepository.findByTitle(tagName).orElseThrow());
+    }
+
+    private long usageCount() {
+        return transactionTemplate.execute(status -> tagUsageRepository.findPopular(PageRequest.of(0, 1000)).stream()
+                .filter(tag -> tag.getTitle().equals(tagName))
+                .mapToLong(TagPopularGetResponse::getUsageCount)
+                .findFirst()
+                .orElse(0));
+    }
+
+    private Long createPost() throws Exception {
+        String title = "post " + UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/posts")
+                        .with(user(writer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "%s", "content": "content", "tags": ["%s"]}
+                                """.formatted(title, tagName)))
+                .andExpect(status().isCreated());
+        return transactionTemplate.execute(status -> postRepository.findAll().stream()
+                .filter(post -> post.getTitle().equals(title))
+                .findFirst()
+                .map(Post::getId)
+                .orElseThrow());
+    }
+
+    private void deletePost(Long postId) throws Exception {
+        mockMvc.perform(delete("/api/v1/posts/{postId}", postId).with(user(writer)))
+                .andExpect(status().is2xxSuccessful());
+    }
+}
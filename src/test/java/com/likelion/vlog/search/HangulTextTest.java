@@ -0,0 +1,65 @@
+package com.likelion.vlog.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HangulText (스프링 없이)
+ * - 입력 중인 글자(자모가 덜 붙은 음절)의 분해형이 완성된 글자 분해형의 접두사가 되는지
+ */
+class HangulTextTest {
+
+    @Test
+    void jamoSplitsCompoundVowelsAndFinals() {
+        assertThat(HangulText.jamo("괜찮")).isEqualTo("ㄱㅗㅐㄴㅊㅏㄴㅎ");
+        assertThat(HangulText.jamo("가")).isEqualTo("ㄱㅏ");
+        assertThat(HangulText.jamo("힣")).isEqualTo("ㅎㅣㅎ");
+    }
+
+    @Test
+    void typingInProgressIsAPrefixOfTheFinishedWord() {
+        String finished = HangulText.jamo("철수");
+
+        assertThat(finished).startsWith(HangulText.jamo("ㅊ"));
+        assertThat(finished).startsWith(HangulText.jamo("처"));
+        assertThat(finished).startsWith(HangulText.jamo("철"));
+        assertThat(finished).startsWith(HangulText.jamo("철ㅅ"));
+        assertThat(finished).doesNotStartWith(HangulText.jamo("쳐"));
+
+        // 받침이 다음 글자의 초성으로 넘어가기 전 상태 ("닭" 입력 중 "달" -> "닭")
+        assertThat(HangulText.jamo("닭")).startsWith(HangulText.jamo("달"));
+    }
+
+    @Test
+    void separatelyTypedCompoundJamoMatchesTheSyllable() {
+        assertThat(HangulText.jamo("ㅇㅘ")).isEqualTo(HangulText.jamo("와"));
+        assertThat(HangulText.jamo("다ㄺ")).isEqualTo(HangulText.jamo("닭"));
+    }
+
+    @Test
+    void whitespaceIsDroppedAndLatinIsLowerCased() {
+        assertThat(HangulText.jamo(" Spring 부트 ")).isEqualTo("springㅂㅜㅌㅡ");
+        assertThat(HangulText.choseong("철수 Blog")).isEqualTo("ㅊㅅblog");
+        assertThat(HangulText.jamo(null)).isEmpty();
+        assertThat(HangulText.choseong(null)).isEmpty();
+    }
+
+    @Test
+    void choseongKeepsDoubleConsonants() {
+        assertThat(HangulText.choseong("빨강 짜장")).isEqualTo("ㅃㄱㅉㅈ");
+    }
+
+    @Test
+    void queryKinds() {
+        assertThat(HangulText.isChoseongQuery("ㅊ ㅅ")).isTrue();
+        assertThat(HangulText.isChoseongQuery("ㅃㄱ")).isTrue();
+        assertThat(HangulText.isChoseongQuery("ㅊㅏ")).isFalse();
+        assertThat(HangulText.isChoseongQuery("ㅊa")).isFalse();
+        assertThat(HangulText.isChoseongQuery(" ")).isFalse();
+
+        assertThat(HangulText.hasJamo("철ㅅ")).isTrue();
+        assertThat(HangulText.hasJamo("철수")).isFalse();
+        assertThat(HangulText.hasJamo(null)).isFalse();
+    }
+}
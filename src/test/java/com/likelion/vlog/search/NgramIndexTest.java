@@ -0,0 +1,99 @@
+package com.likelion.vlog.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NgramIndex (스프링 없이)
+ * - 초성/자모 부분 일치, n-gram이 모두 있어도 연속하지 않으면 제외, 교체/삭제 반영
+ */
+class NgramIndexTest {
+
+    private static final int LIMIT = 10;
+
+    @Test
+    void choseongQueryMatchesInitialConsonants() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "철수의 블로그");
+        index.put(2L, "수철");
+        index.put(3L, "찰스");
+
+        assertThat(index.search("ㅊㅅ", LIMIT)).containsExactly(3L, 1L);
+        assertThat(index.search("ㅅㅊ", LIMIT)).containsExactly(2L);
+        assertThat(index.search("ㅂㄹㄱ", LIMIT)).containsExactly(1L);
+    }
+
+    @Test
+    void partialSyllablesMatchTheFinishedText() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "철수");
+        index.put(2L, "처음");
+
+        assertThat(index.search("철ㅅ", LIMIT)).containsExactly(1L);
+        assertThat(index.search("처", LIMIT)).containsExactly(2L, 1L);
+        assertThat(index.search("처으", LIMIT)).containsExactly(2L);
+        assertThat(index.search("쳐", LIMIT)).isEmpty();
+    }
+
+    @Test
+    void singleJamoUsesUnigrams() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "구름");
+        index.put(2L, "가람");
+
+        assertThat(index.search("ㅜ", LIMIT)).containsExactly(1L);
+        assertThat(index.search("ㅏ", LIMIT)).containsExactly(2L);
+    }
+
+    @Test
+    void gramsMustBeContiguous() {
+        // "가나"와 "나다" 2-gram을 모두 갖지만 "가나다"는 포함하지 않음
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "가나 라 나다");
+        index.put(2L, "가나다");
+
+        assertThat(index.search("가나다", LIMIT)).containsExactly(2L);
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Spring Boot 입문");
+
+        assertThat(index.search("ngbo", LIMIT)).containsExactly(1L);
+        assertThat(index.search("BOOT입", LIMIT)).containsExactly(1L);
+    }
+
+    @Test
+    void newestIdsFirstUpToLimit() {
+        NgramIndex index = new NgramIndex();
+        for (long id = 1; id <= 5; id++) index.put(id, "스프링 " + id);
+
+        assertThat(index.search("ㅅㅍㄹ", 3)).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void putReplacesAndRemoveForgets() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "자바");
+        index.put(1L, "코틀린");
+
+        assertThat(index.search("자바", LIMIT)).isEmpty();
+        assertThat(index.search("ㅋㅌㄹ", LIMIT)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove(1L);
+        assertThat(index.search("코틀", LIMIT)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void blankTextAndKeywordMatchNothing() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, " ");
+
+        assertThat(index.size()).isZero();
+        assertThat(index.search(" ", LIMIT)).isEmpty();
+    }
+}
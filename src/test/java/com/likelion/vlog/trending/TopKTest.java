@@ -0,0 +1,71 @@
+package com.likelion.vlog.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TopK (스프링 없이)
+ * - 점수 높은 순, 동점이면 post_id 큰 순으로 K개만 유지
+ */
+class TopKTest {
+
+    @Test
+    void keepsTheHighestKAndEvictsTheLowest() {
+        TopK topK = new TopK(3);
+        topK.offer(entry(1L, 10));
+        topK.offer(entry(2L, 30));
+        topK.offer(entry(3L, 20));
+        topK.offer(entry(4L, 5));
+        topK.offer(entry(5L, 25));
+
+        assertThat(topK.postIds()).containsExactly(2L, 5L, 3L);
+    }
+
+    @Test
+    void tieGoesToTheNewerPost() {
+        TopK topK = new TopK(2);
+        topK.offer(entry(1L, 10));
+        topK.offer(entry(3L, 10));
+        topK.offer(entry(2L, 10));
+
+        assertThat(topK.postIds()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void scoreChangeIsRemoveThenOffer() {
+        TopK topK = new TopK(2);
+        TrendingEntry low = entry(1L, 10);
+        topK.offer(low);
+        topK.offer(entry(2L, 20));
+
+        assertThat(topK.remove(low)).isTrue();
+        low.add(15);
+        topK.offer(low);
+
+        assertThat(topK.postIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rebuildRefillsFromCandidates() {
+        TopK topK = new TopK(2);
+        TrendingEntry first = entry(1L, 30);
+        TrendingEntry second = entry(2L, 20);
+        TrendingEntry third = entry(3L, 10);
+        Stream.of(first, second, third).forEach(topK::offer);
+        assertThat(topK.postIds()).containsExactly(1L, 2L);
+
+        // 1등이 빠지면 밀려났던 3번이 다시 들어옴
+        topK.rebuild(Stream.of(second, third));
+
+        assertThat(topK.postIds()).containsExactly(2L, 3L);
+    }
+
+    private static TrendingEntry entry(Long postId, double score) {
+        TrendingEntry entry = new TrendingEntry(postId, null);
+        entry.add(score);
+        return entry;
+    }
+}
@@ -0,0 +1,106 @@
+package com.likelion.vlog.trending;
+
+import com.likelion.vlog.event.PostChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TrendingBoard (스프링 없이)
+ * - 반감기 1시간, 가중치 조회 1 / 좋아요 5 / 댓글 10, 태그별 상위 2개
+ * - 과거 활동은 restore(atMillis)로 넣어 감쇠를 확인
+ */
+class TrendingBoardTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final TrendingBoard board = new TrendingBoard(Duration.ofHours(1), 2, 1, 5, 10, 0.05);
+
+    @Test
+    void activityIsWeighted() {
+        long now = System.currentTimeMillis();
+        board.restore(1L, List.of(), 4, 0, 0, now);
+        board.restore(2L, List.of(), 0, 1, 0, now);
+
+        assertThat(board.top(List.of())).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void olderActivityCountsHalfPerHalfLife() {
+        long now = System.currentTimeMillis();
+        board.restore(1L, List.of(), 3, 0, 0, now - HOUR);     // 1.5
+        board.restore(2L, List.of(), 1, 0, 0, now);            // 1
+        board.restore(3L, List.of(), 5, 0, 0, now - 2 * HOUR); // 1.25
+
+        assertThat(board.top(List.of())).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void tagRankingIsCaseInsensitiveAndMultiTagIsAUnionByScore() {
+        long now = System.currentTimeMillis();
+        board.restore(1L, List.of("Spring"), 1, 0, 0, now);
+        board.restore(2L, List.of("jpa"), 3, 0, 0, now);
+        board.restore(3L, List.of("spring", "kotlin"), 2, 0, 0, now);
+
+        assertThat(board.top(List.of("SPRING"))).containsExactly(3L, 1L);
+        assertThat(board.top(List.of("spring", "jpa"))).containsExactly(2L, 3L, 1L);
+        assertThat(board.top(List.of("none"))).isEmpty();
+    }
+
+    @Test
+    void tagRemovedByEditRefillsThatTagRanking() {
+        long now = System.currentTimeMillis();
+        board.restore(1L, List.of("spring"), 3, 0, 0, now);
+        board.restore(2L, List.of("spring"), 2, 0, 0, now);
+        board.restore(3L, List.of("spring"), 1, 0, 0, now);
+        assertThat(board.top(List.of("spring"))).containsExactly(1L, 2L);
+
+        board.onPostChanged(PostChangedEvent.of(1L, 1L, "title", List.of("spring"), List.of("jpa")));
+
+        assertThat(board.top(List.of("spring"))).containsExactly(2L, 3L);
+        assertThat(board.top(List.of("jpa"))).containsExactly(1L);
+    }
+
+    @Test
+    void deletedPostLeavesEveryRanking() {
+        long now = System.currentTimeMillis();
+        board.restore(1L, List.of("spring"), 3, 0, 0, now);
+        board.restore(2L, List.of("spring"), 2, 0, 0, now);
+        board.restore(3L, List.of("spring"), 1, 0, 0, now);
+
+        board.onPostChanged(PostChangedEvent.deleted(1L, 1L, List.of("spring")));
+
+        assertThat(board.top(List.of())).containsExactly(2L, 3L);
+        assertThat(board.top(List.of("spring"))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void viewKeepsExistingTagsWhenTagsAreUnknown() {
+        long now = System.currentTimeMillis();
+        board.restore(1L, List.of("spring"), 1, 0, 0, now);
+        board.restore(2L, List.of("spring"), 2, 0, 0, now);
+
+        board.recordView(1L, null);
+        board.recordView(1L, null);
+
+        assertThat(board.top(List.of("spring"))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rebaseKeepsOrderAndDropsFadedPosts() {
+        long now = System.currentTimeMillis();
+        board.restore(1L, List.of("spring"), 2, 0, 0, now);
+        board.restore(2L, List.of("spring"), 1, 0, 0, now);
+        board.restore(3L, List.of("old"), 1, 0, 0, now - 10 * HOUR); // 1/1024 < min-score
+        assertThat(board.top(List.of("old"))).containsExactly(3L);
+
+        board.rebase();
+
+        assertThat(board.top(List.of())).containsExactly(1L, 2L);
+        assertThat(board.top(List.of("spring"))).containsExactly(1L, 2L);
+        assertThat(board.top(List.of("old"))).isEmpty();
+    }
+}